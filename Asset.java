@@ -0,0 +1,80 @@
+/** This enum lists the images of the game that are looked up by what
+ *  they show instead of by their file. Images that belong to a plant,
+ *  such as its sprites and seed packet, are looked up by the type of
+ *  the plant through the AssetManager instead.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public enum Asset {
+    /** the background of the lawn*/
+    LAWN("lawn/lawnImg.png"),
+    /** the slot holding the seed packets*/
+    SEED_SLOT("lawn/seedSlotImg.png"),
+    /** the shovel of the player*/
+    SHOVEL("lawn/draggable/shovel.png"),
+    /** a tombstone on the lawn*/
+    TOMBSTONE("lawn/tombstone.png"),
+    /** a sun to be collected*/
+    SUN("lawn/gameElements/sun.png"),
+    /** a pea shot by a peashooter*/
+    PEA("lawn/gameElements/ProjectilePea.png"),
+    /** a frozen pea shot by a snow pea*/
+    SNOW_PEA("lawn/gameElements/ProjectileSnowPea.png"),
+    /** a walking basic zombie*/
+    ZOMBIE("lawn/zombies/normalZombie.png"),
+    /** an eating basic zombie*/
+    ZOMBIE_EATING("lawn/zombies/normalZombieEating.png"),
+    /** a walking flag zombie*/
+    FLAG_ZOMBIE("lawn/zombies/flagZombie.png"),
+    /** an eating flag zombie*/
+    FLAG_ZOMBIE_EATING("lawn/zombies/flagZombieEating.png"),
+    /** a walking conehead zombie*/
+    CONEHEAD_ZOMBIE("lawn/zombies/coneheadZombie.png"),
+    /** an eating conehead zombie*/
+    CONEHEAD_ZOMBIE_EATING("lawn/zombies/coneheadZombieEating.png"),
+    /** a walking buckethead zombie*/
+    BUCKETHEAD_ZOMBIE("lawn/zombies/bucketheadZombie.png"),
+    /** an eating buckethead zombie*/
+    BUCKETHEAD_ZOMBIE_EATING("lawn/zombies/bucketheadZombieEating.png"),
+    /** a polevaulter zombie still holding its pole*/
+    POLEVAULTER_ZOMBIE("lawn/zombies/polevaulterZombie.png"),
+    /** an eating polevaulter zombie*/
+    POLEVAULTER_ZOMBIE_EATING("lawn/zombies/polevaulterZombieEating.png"),
+    /** a polevaulter zombie walking after its vault*/
+    POLEVAULTER_ZOMBIE_WALKING("lawn/zombies/polevaulterZombieWalking.png"),
+    /** the background of the main menu*/
+    MENU("menu/menuImg.png"),
+    /** the logo of the game*/
+    LOGO("menu/logoImg.png"),
+    /** the start button of the main menu*/
+    START("menu/startImg.png"),
+    /** the message of a lost level*/
+    LEVEL_LOST("result/levelLost.png"),
+    /** the message of the first level being won*/
+    LEVEL_WIN_1("result/levelWin1.png"),
+    /** the message of the second level being won*/
+    LEVEL_WIN_2("result/levelWin2.png"),
+    /** the message of the third level being won*/
+    LEVEL_WIN_3("result/levelWin3.png");
+
+    /** This constructor initializes the path of the image.
+     *
+     * @param p the path of the image inside the image folder
+     */
+    Asset(String p) {
+        PATH = p;
+    }
+
+    /** This method returns the path of the image inside the image folder.
+     *
+     * @return the path of the image
+     */
+    public String getPath() {
+        return PATH;
+    }
+
+    /** the path of the image inside the image folder*/
+    private final String PATH;
+}
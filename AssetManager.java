@@ -0,0 +1,339 @@
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/** This class loads every image of the game once and shares it with
+ *  everything that draws it. The images to be loaded are listed in an
+ *  index file inside the image folder, so the folder never has to be
+ *  listed at runtime, which does not work once the game is packed into
+ *  a JAR. The images are decoded in parallel when the game starts.
+ *  If a sprite archive is given with -Dpvz.spriteCache=file, images that
+ *  have not changed since the last launch are read from the archive
+ *  instead of being decoded again.
+ *  Running this class on its own generates the index from the folder.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class AssetManager {
+    /** This constructor initializes an empty manager. No images are
+     *  available until they are loaded.
+     *
+     */
+    public AssetManager() {
+        images = new HashMap<>();
+    }
+
+    /** This method loads the images using the sprite archive named by
+     *  the pvz.spriteCache property, if there is one.
+     *
+     */
+    public void load() {
+        String file = System.getProperty("pvz.spriteCache");
+
+        if (file == null || file.isBlank())
+            load(null);
+        else
+            load(new SpriteArchive(new File(file)));
+    }
+
+    /** This method loads every image listed in the index on a small
+     *  pool of threads, and waits for all of them to finish. Images found
+     *  in the archive are read from it, and the rest are decoded from
+     *  their PNG. If anything had to be decoded, the archive is written
+     *  again so the next launch finds it. An image that cannot be loaded
+     *  is reported and left out.
+     *
+     * @param archive the archive of decoded images, or null if there is none
+     */
+    public void load(SpriteArchive archive) {
+        int i;
+        ArrayList<String> paths = readIndex();
+        ArrayList<Future<ImageIcon>> decoded = new ArrayList<>(paths.size());
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(THREADS, paths.size())));
+        final long[] sums = new long[paths.size()];
+        final boolean[] archived = new boolean[paths.size()];
+        boolean stale = false;
+
+        if (archive != null)
+            archive.open();
+
+        try {
+            for (i = 0; i < paths.size(); i++) {
+                final String path = paths.get(i);
+                final int index = i;
+
+                decoded.add(pool.submit(new Callable<ImageIcon>() {
+                    @Override
+                    public ImageIcon call() throws IOException {
+                        byte[] png = read(path);
+                        BufferedImage image = null;
+
+                        sums[index] = checksum(png);
+                        if (archive != null)
+                            image = archive.get(path, sums[index]);
+
+                        archived[index] = image != null;
+                        if (image == null)
+                            image = decode(png);
+
+                        return new ImageIcon(image);
+                    }
+                }));
+            }
+
+            for (i = 0; i < paths.size(); i++) {
+                try {
+                    images.put(paths.get(i), decoded.get(i).get());
+                    if (!archived[i])
+                        stale = true;
+                } catch (ExecutionException e) {
+                    System.out.println(paths.get(i) + " cannot be loaded: " + e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdown();
+        }
+
+        if (archive != null && stale)
+            saveArchive(archive, paths, sums);
+    }
+
+    /** This method returns the image of an asset.
+     *
+     * @param a the asset to be returned
+     * @return the shared image of the asset, or null if it could not be loaded
+     */
+    public ImageIcon get(Asset a) {
+        return images.get(a.getPath());
+    }
+
+    /** This method returns the sprite of a plant on the lawn. A plant
+     *  in a state other than 0, such as a cracked wallnut, is drawn with
+     *  the image of that state if there is one.
+     *
+     * @param type the type of the plant
+     * @param state the sprite state of the plant
+     * @return the shared image of the plant, or null if there is none
+     */
+    public ImageIcon getPlant(PlantType type, int state) {
+        ImageIcon image = null;
+
+        if (state > 0)
+            image = images.get(PLANT_STATES + type.getSpriteKey() + state + ".png");
+        if (image == null)
+            image = images.get(PLANTS + type.getSpriteKey() + ".png");
+
+        return image;
+    }
+
+    /** This method returns the seed packet of a plant.
+     *
+     * @param type the type of the plant
+     * @return the shared image of the seed packet, or null if there is none
+     */
+    public ImageIcon getSeedPacket(PlantType type) {
+        return images.get(SEED_PACKETS + type.getSpriteKey() + ".png");
+    }
+
+    /** This method returns the number of loaded images.
+     *
+     * @return the number of loaded images
+     */
+    public int size() {
+        return images.size();
+    }
+
+    /** This method writes every loaded image into the sprite archive.
+     *  The game still runs from the decoded images if this fails.
+     *
+     * @param archive the archive to be written
+     * @param paths the paths of the images listed in the index
+     * @param sums the checksum of the PNG of each listed image
+     */
+    private void saveArchive(SpriteArchive archive, ArrayList<String> paths, long[] sums) {
+        ArrayList<String> saved = new ArrayList<>(paths.size());
+        ArrayList<BufferedImage> pixels = new ArrayList<>(paths.size());
+        ArrayList<Long> savedSums = new ArrayList<>(paths.size());
+        ImageIcon icon;
+        int i;
+
+        for (i = 0; i < paths.size(); i++) {
+            icon = images.get(paths.get(i));
+
+            if (icon != null && icon.getImage() instanceof BufferedImage) {
+                saved.add(paths.get(i));
+                pixels.add((BufferedImage) icon.getImage());
+                savedSums.add(sums[i]);
+            }
+        }
+
+        try {
+            archive.save(saved, pixels, savedSums);
+        } catch (IOException e) {
+            System.out.println("Sprite archive cannot be written: " + e.getMessage());
+        }
+    }
+
+    /** This method reads the PNG of a single image of the image folder.
+     *
+     * @param path the path of the image inside the image folder
+     * @return the bytes of the PNG
+     * @throws IOException if the image is missing or cannot be read
+     */
+    private byte[] read(String path) throws IOException {
+        InputStream in = getClass().getResourceAsStream(ROOT + path);
+
+        if (in == null)
+            throw new IOException("missing resource");
+
+        try {
+            return in.readAllBytes();
+        } finally {
+            in.close();
+        }
+    }
+
+    /** This method decodes the PNG of a single image.
+     *
+     * @param png the bytes of the PNG
+     * @return the decoded image
+     * @throws IOException if the image cannot be decoded
+     */
+    private BufferedImage decode(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+
+        if (image == null)
+            throw new IOException("unknown image format");
+
+        return image;
+    }
+
+    /** This method computes the checksum of the PNG of an image, which
+     *  tells whether an archived image is still up to date.
+     *
+     * @param png the bytes of the PNG
+     * @return the checksum of the PNG
+     */
+    private static long checksum(byte[] png) {
+        CRC32 crc = new CRC32();
+
+        crc.update(png, 0, png.length);
+
+        return crc.getValue();
+    }
+
+    /** This method reads the paths listed in the index of the image folder.
+     *
+     * @return the paths of every image, or an empty list if there is no index
+     */
+    public static ArrayList<String> readIndex() {
+        ArrayList<String> paths = new ArrayList<>();
+        InputStream in = AssetManager.class.getResourceAsStream(ROOT + INDEX);
+        BufferedReader reader;
+        String line;
+
+        if (in == null) {
+            System.out.println(INDEX + " cannot be found, run AssetManager to generate it");
+            return paths;
+        }
+
+        try {
+            reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            try {
+                while ((line = reader.readLine()) != null)
+                    if (!line.isBlank())
+                        paths.add(line.trim());
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+
+        return paths;
+    }
+
+    /** This method adds the path of every PNG image inside a folder
+     *  and its subfolders to a list.
+     *
+     * @param dir the folder to be searched
+     * @param prefix the path of the folder inside the image folder
+     * @param paths the list the paths are added to
+     */
+    private static void listImages(File dir, String prefix, ArrayList<String> paths) {
+        int i;
+        File[] files = dir.listFiles();
+
+        if (files == null)
+            return;
+
+        for (i = 0; i < files.length; i++) {
+            if (files[i].isDirectory())
+                listImages(files[i], prefix + files[i].getName() + "/", paths);
+            else if (files[i].getName().toLowerCase().endsWith(".png"))
+                paths.add(prefix + files[i].getName());
+        }
+    }
+
+    /** This method generates the index of the image folder. The only
+     *  argument is the image folder, which is "img" by default.
+     *
+     * @param args the command-line arguments passed to the Java program when executed.
+     * @throws IOException if the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int i;
+        File root = new File(args.length > 0 ? args[0] : "img");
+        ArrayList<String> paths = new ArrayList<>();
+        PrintWriter out;
+
+        listImages(root, "", paths);
+        Collections.sort(paths);
+
+        out = new PrintWriter(new File(root, INDEX), StandardCharsets.UTF_8);
+        try {
+            for (i = 0; i < paths.size(); i++)
+                out.println(paths.get(i));
+        } finally {
+            out.close();
+        }
+
+        System.out.println("Indexed " + paths.size() + " images into " + new File(root, INDEX));
+    }
+
+    /** the folder holding the images, relative to the classpath*/
+    public static final String ROOT = "/img/";
+    /** the name of the index inside the image folder*/
+    public static final String INDEX = "index.txt";
+    /** the folder of the plant sprites*/
+    public static final String PLANTS = "lawn/plants/";
+    /** the folder of the sprites of plants in other states*/
+    public static final String PLANT_STATES = "lawn/plantStates/";
+    /** the folder of the seed packets*/
+    public static final String SEED_PACKETS = "lawn/draggable/seedPackets/";
+    /** the largest number of threads decoding images*/
+    public static final int THREADS = 4;
+    /** the loaded images by their path inside the image folder*/
+    private HashMap<String, ImageIcon> images;
+}
@@ -0,0 +1,121 @@
+/** This class accumulates the results of many simulated games.
+ *  Every worker of the balance simulator fills its own instance,
+ *  and the instances are merged once the workers are done, so no
+ *  result is ever shared between threads while it is being written.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class BalanceResult {
+    /** This constructor initializes an empty result.
+     *
+     */
+    public BalanceResult() {
+        games = 0;
+        wins = 0;
+        totalLossTime = 0;
+        earliestLoss = Integer.MAX_VALUE;
+        zombiesKilled = 0;
+    }
+
+    /** This method records the outcome of one game.
+     *
+     * @param won true if the game was won, false otherwise
+     * @param time the time frame the game ended in milliseconds
+     * @param killed the number of zombies killed in the game
+     */
+    public void record(boolean won, int time, int killed) {
+        games++;
+        zombiesKilled += killed;
+
+        if (won)
+            wins++;
+        else {
+            totalLossTime += time;
+            earliestLoss = Math.min(earliestLoss, time);
+        }
+    }
+
+    /** This method adds the games of another result into this result.
+     *
+     * @param r the result to be merged
+     * @return this result
+     */
+    public BalanceResult merge(BalanceResult r) {
+        games += r.games;
+        wins += r.wins;
+        totalLossTime += r.totalLossTime;
+        earliestLoss = Math.min(earliestLoss, r.earliestLoss);
+        zombiesKilled += r.zombiesKilled;
+
+        return this;
+    }
+
+    /** This method returns the number of games recorded.
+     *
+     * @return the number of games recorded
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /** This method returns the number of games won.
+     *
+     * @return the number of games won
+     */
+    public int getWins() {
+        return wins;
+    }
+
+    /** This method returns the number of games lost.
+     *
+     * @return the number of games lost
+     */
+    public int getLosses() {
+        return games - wins;
+    }
+
+    /** This method returns the ratio of games won.
+     *
+     * @return the win rate from 0 to 1
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double)wins / games;
+    }
+
+    /** This method returns the average time it took to lose a game.
+     *
+     * @return the average time to loss in seconds, or 0 if no game was lost
+     */
+    public double getAverageLossTime() {
+        return getLosses() == 0 ? 0 : (double)totalLossTime / getLosses() / SimulationClock.SECOND;
+    }
+
+    /** This method returns the earliest time a game was lost.
+     *
+     * @return the earliest time to loss in seconds, or 0 if no game was lost
+     */
+    public double getEarliestLossTime() {
+        return getLosses() == 0 ? 0 : (double)earliestLoss / SimulationClock.SECOND;
+    }
+
+    /** This method returns the average zombies killed per game.
+     *
+     * @return the average zombies killed per game
+     */
+    public double getAverageZombiesKilled() {
+        return games == 0 ? 0 : (double)zombiesKilled / games;
+    }
+
+    /** the number of games recorded*/
+    private int games;
+    /** the number of games won*/
+    private int wins;
+    /** the sum of the times the lost games ended*/
+    private long totalLossTime;
+    /** the earliest time a game was lost*/
+    private int earliestLoss;
+    /** the total zombies killed*/
+    private long zombiesKilled;
+}
@@ -0,0 +1,118 @@
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/** This class runs thousands of headless games of a level in parallel
+ *  against a fixed plant layout in order to measure how balanced the level is.
+ *  Every game runs on its own Level instance with its own seed, so
+ *  games do not interfere with each other and any run can be reproduced
+ *  with the same master seed.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class BalanceSimulator {
+    /** This constructor initializes the level and layout to be tested.
+     *
+     * @param l the level number to be simulated
+     * @param c the commands of the player in every game
+     */
+    public BalanceSimulator(int l, ArrayList<ScriptedCommand> c) {
+        levelNum = l;
+        commands = c;
+        tickRate = SimulationClock.DEFAULT_TICK_RATE;
+        pool = ForkJoinPool.commonPool();
+    }
+
+    /** This method simulates a number of games and gathers their results.
+     *
+     * @param games the number of games to be simulated
+     * @param seed the master seed all game seeds are derived from
+     * @return the gathered results of the games
+     */
+    public BalanceResult simulate(int games, long seed) {
+        return pool.invoke(new BalanceTask(levelNum, games, new SplittableRandom(seed), commands, tickRate));
+    }
+
+    /** This method sets the tick rate of the simulated games.
+     *
+     * @param rate the number of ticks per simulated second
+     */
+    public void setTickRate(int rate) {
+        tickRate = rate;
+    }
+
+    /** This method sets the pool that runs the games.
+     *
+     * @param p the pool that runs the games
+     */
+    public void setPool(ForkJoinPool p) {
+        pool = p;
+    }
+
+    /** This method runs the balance simulator from the command line.
+     *  The first argument is the level number, followed by any of these
+     *  options and the plant layout written as headless commands:
+     *  <pre>
+     *    -games n      the number of games to be simulated
+     *    -seed n       the master seed of the games
+     *    -rate n       the number of ticks per second
+     *    -threads n    the number of worker threads
+     *  </pre>
+     *
+     * @param args the command-line arguments passed to the Java program when executed.
+     */
+    public static void main(String[] args) {
+        int i;
+        int games = 10000, threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        ArrayList<ScriptedCommand> commands = new ArrayList<>();
+        BalanceSimulator simulator;
+        BalanceResult result;
+        long start;
+        double seconds;
+
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length == 0) {
+            System.out.println("Usage: java BalanceSimulator <level> [-games n] [-seed n] [-rate n] [-threads n] [plant:second:row:col:name]...");
+            return;
+        }
+
+        simulator = new BalanceSimulator(Integer.parseInt(args[0]), commands);
+
+        for (i = 1; i < args.length; i++) {
+            if (args[i].equals("-games") && i + 1 < args.length)
+                games = Integer.parseInt(args[++i]);
+            else if (args[i].equals("-seed") && i + 1 < args.length)
+                seed = Long.parseLong(args[++i]);
+            else if (args[i].equals("-rate") && i + 1 < args.length)
+                simulator.setTickRate(Integer.parseInt(args[++i]));
+            else if (args[i].equals("-threads") && i + 1 < args.length)
+                threads = Integer.parseInt(args[++i]);
+            else
+                commands.add(ScriptedCommand.parse(args[i]));
+        }
+
+        simulator.setPool(new ForkJoinPool(threads));
+
+        start = System.nanoTime();
+        result = simulator.simulate(games, seed);
+        seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("Level " + args[0] + ", seed " + seed + ", " + result.getGames() + " games in " + seconds + "s on " + threads + " threads");
+        System.out.println("Win rate: " + (result.getWinRate() * 100) + "% (" + result.getWins() + " won, " + result.getLosses() + " lost)");
+        System.out.println("Time to loss: average " + result.getAverageLossTime() + "s, earliest " + result.getEarliestLossTime() + "s");
+        System.out.println("Zombies killed per game: " + result.getAverageZombiesKilled());
+    }
+
+    /** the level number to be simulated*/
+    private int levelNum;
+    /** the commands of the player in every game*/
+    private ArrayList<ScriptedCommand> commands;
+    /** the number of ticks per simulated second*/
+    private int tickRate;
+    /** the pool that runs the games*/
+    private ForkJoinPool pool;
+}
@@ -0,0 +1,88 @@
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/** This class represents a batch of games simulated by the balance
+ *  simulator. A large batch is split in half until it is small enough,
+ *  and each half receives its own split of the random number generator.
+ *  Since the split tree only depends on the batch size, every game gets
+ *  the same seed no matter which worker ends up running it.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class BalanceTask extends RecursiveTask<BalanceResult> {
+    /** This constructor initializes the batch of games to be simulated.
+     *
+     * @param l the level number of every game
+     * @param n the number of games in the batch
+     * @param r the random number generator that seeds the games of the batch
+     * @param c the commands of the player in every game
+     * @param rate the number of ticks per simulated second
+     */
+    public BalanceTask(int l, int n, SplittableRandom r, ArrayList<ScriptedCommand> c, int rate) {
+        LEVEL_NUM = l;
+        GAMES = n;
+        random = r;
+        commands = c;
+        TICK_RATE = rate;
+    }
+
+    /** This method simulates the games of the batch, splitting it into
+     *  two smaller batches if it is too large.
+     *
+     * @return the results of the games in the batch
+     */
+    @Override
+    protected BalanceResult compute() {
+        BalanceTask left, right;
+        BalanceResult result;
+        int i;
+
+        if (GAMES > THRESHOLD) {
+            // split the generator before forking so the seeds do not depend on scheduling
+            left = new BalanceTask(LEVEL_NUM, GAMES / 2, random.split(), commands, TICK_RATE);
+            right = new BalanceTask(LEVEL_NUM, GAMES - GAMES / 2, random, commands, TICK_RATE);
+
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+
+        result = new BalanceResult();
+        for (i = 0; i < GAMES; i++)
+            simulate(random.nextLong(), result);
+
+        return result;
+    }
+
+    /** This method simulates one game and records its result.
+     *
+     * @param seed the seed of the game
+     * @param result the result to record the game into
+     */
+    public void simulate(long seed, BalanceResult result) {
+        int i;
+        HeadlessSimulation sim = new HeadlessSimulation(HeadlessSimulation.createLevel(LEVEL_NUM, seed), TICK_RATE);
+
+        sim.setAutoCollect(true);
+        for (i = 0; i < commands.size(); i++)
+            sim.addCommand(commands.get(i));
+
+        sim.run();
+        result.record(sim.isWon(), sim.getTime(), sim.getZombiesKilled());
+    }
+
+    /** the maximum number of games simulated without splitting*/
+    public static final int THRESHOLD = 16;
+    /** the level number of every game*/
+    private final int LEVEL_NUM;
+    /** the number of games in the batch*/
+    private final int GAMES;
+    /** the number of ticks per simulated second*/
+    private final int TICK_RATE;
+    /** the random number generator that seeds the games*/
+    private SplittableRandom random;
+    /** the commands of the player in every game*/
+    private ArrayList<ScriptedCommand> commands;
+}
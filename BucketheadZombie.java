@@ -7,14 +7,13 @@
  */
 public class BucketheadZombie extends Zombie{
     /** This constructor initializes the zombie's row and column position,
-     *  its time of creation and the item it is holding.
+     *  its time of creation and the kind it is, which gives it its item.
      *
      * @param r the row coordinate of the zombie
      * @param c the col coordinate of the zombie
      * @param t the time of its creation
      */
     public BucketheadZombie(int r, int c, int t) {
-        super(r, c, t, new Item("Bucket",-3,-5, 420));
+        super(r, c, t, ZombieType.get(BUCKETHEAD));
     }
-
 }
@@ -55,8 +55,9 @@ public class CherryBomb extends Plant {
         
         if(isTime(currentTime))
         {
-            explode(level.getEnemies());
+            explode(level);
             setHealth(0);
+            level.markDead(this);
         }
     }
 
@@ -65,23 +66,27 @@ public class CherryBomb extends Plant {
      * the zombies within its range. 
      * 
      * 
-     * @param zombies zombies to be checked
+     * @param level the level to check for zombies
      */
-    public void explode(ArrayList<Zombie> zombies)
+    public void explode(Level level)
     {
-        
-        int i = 0;
+        ZombieIndex index = level.getZombieIndex();
+        ArrayList<Zombie> lane;
+        int row, i;
 
         //System.out.println("BOOM!");
-        while(i < zombies.size())
+        //only the rows next to the plant are checked, starting from the leftmost column in range
+        for(row = Math.max(0, (int)getRow() - getRange()); row <= Math.min(index.getRows() - 1, (int)getRow() + getRange()); row++)
         {
-            if(isWithinRange(zombies.get(i).getRow(), zombies.get(i).getCol()))
+            lane = index.getLane(row);
+            i = index.lowerBound(row, getCol() - getRange());
+
+            while(i < lane.size() && isWithinRange(lane.get(i).getRow(), lane.get(i).getCol()))
             {
-                zombies.get(i).takeDamage(getDamage());
+                lane.get(i).takeDamage(getDamage());
+                i++;
             }
-            i++;
         }
-        
     }
 
     /**
@@ -120,7 +125,20 @@ public class CherryBomb extends Plant {
      */
     public boolean isTime(int currentTime)
     {
-        return currentTime - getInternal_time() >= getSpeed();
+        return currentTime - getInternal_time() >= getSpeed() * SimulationClock.SECOND;
+    }
+
+    /**
+     * This method returns the time the Cherry Bomb explodes.
+     *
+     * @param level the level to be checked
+     * @param currentTime the current time for reference
+     * @return the time of the explosion
+     */
+    @Override
+    public int getNextActionTime(Level level, int currentTime)
+    {
+        return getInternal_time() + getSpeed() * SimulationClock.SECOND;
     }
 
 
@@ -0,0 +1,16 @@
+/** This interface is implemented by objects that want to know the
+ *  result of a player command once the level thread has executed it.
+ *  The listener is called on the level thread.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public interface CommandListener {
+    /** This method is called after a command has been executed.
+     *
+     * @param c the command that was executed
+     * @param success true if the command changed the level, false otherwise
+     */
+    void commandExecuted(PlayerCommand c, boolean success);
+}
@@ -8,14 +8,13 @@
  */
 public class ConeheadZombie extends Zombie{
     /** This constructor initializes the zombie's row and column position,
-     *  its time of creation and the item it is holding.
+     *  its time of creation and the kind it is, which gives it its item.
      *
      * @param r the row coordinate of the zombie
      * @param c the col coordinate of the zombie
      * @param t the time of its creation
      */
     public ConeheadZombie(int r, int c, int t) {
-        super(r, c, t, new Item("Traffic Cone", -2, -2, 140));
+        super(r, c, t, ZombieType.get(CONEHEAD));
     }
-
 }
@@ -1,8 +1,6 @@
-import java.util.ArrayList;
 
+import java.util.Arrays;
 import javax.swing.ImageIcon;
-import javax.swing.SwingUtilities;
-import javax.swing.Timer;
 import java.awt.*;
 import java.awt.event.*;
 
@@ -14,7 +12,7 @@ import java.awt.event.*;
  *  @version 1.0
  *
  */
-public class Controller implements ActionListener, MouseListener, MouseMotionListener {
+public class Controller implements ActionListener, MouseListener, MouseMotionListener, CommandListener {
     /** This constructor initializes the Model and the View classes that will
      *  be interacting inside the Controller class.
      *
@@ -27,45 +25,123 @@ public class Controller implements ActionListener, MouseListener, MouseMotionLis
         view.setActionListener(this);
         view.setMouseListener(this);
         view.setMouseMotionListener(this);
+        loadSpriteImages();
+        renderLoop = new RenderLoop(Integer.getInteger("pvz.fps", RenderLoop.DEFAULT_FPS), new Runnable() {
+            @Override
+            public void run() {
+                updateView();
+            }
+        });
+        sceneTask = new Runnable() {
+            @Override
+            public void run() {
+                updateScene();
+            }
+        };
+
+        // nothing needs to be drawn while the window is minimized
+        view.setWindowListener(new WindowAdapter() {
+            @Override
+            public void windowIconified(WindowEvent e) {
+                renderLoop.pause();
+                view.getLawn().stopRendering();
+            }
+
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                renderLoop.resume();
+                if (renderLoop.isRunning())
+                    view.getLawn().startRendering(sceneTask);
+            }
+        });
 
         System.out.println("Main Thread: " + Thread.currentThread().getName());
         System.out.println("Level Thread: " + m.getLevelThread().getName());
     }
 
     /**
-     * This method updates the GUI at a certain frame rate.
+     * This method updates the GUI with the latest snapshot of the level.
+     * It is called by the render loop on every frame. When the lawn is
+     * actively rendered, its render thread updates and draws the sprites
+     * instead, and this method only checks for the result of the level.
      *
      */
     public void updateView() {
-        Timer timer = new Timer(20, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e)
-            {
-                // update game sprites
-                zombieUpdate();
-                seedPacketUpdate();
-                sunUpdate();
-                updateProjectiles();
-                tileUpdate();
-
-                // update sun count, zombies and game objects in gui according to model
-                try {
-                    view.getLawn().updateSunCount(model.getLevelThread().getPlayer().getSun());
-                    despawnObjects();
-                } catch (Exception ignore) {
-                    // if player is null, it means there is no level being played
-                }
+        if (!view.getLawn().isActivelyRendered()) {
+            updateScene();
+            view.getLawn().repaint();
+        }
 
-                // show result
-                if (model.getLevelResult() > -1) {
-                    view.changePanel("result");
-                    view.getResult().showMessage(model.getLevelResult());
-                }
+        // show result
+        if (model.getLevelResult() > -1) {
+            view.getResult().showMessage(model.getLevelResult());
+            showPanel("result");
+        }
+    }
 
-                view.getLawn().repaint();
-            }
-        });
-        timer.start();
+    /**
+     * This method updates the sprites of the lawn according to the latest
+     * snapshot of the level. Only one thread ever calls it: the Swing
+     * thread, or the render thread of the lawn when it is actively rendered.
+     *
+     */
+    public void updateScene() {
+        // only draw snapshots of the level that is currently being played
+        frame = model.getLevelThread().getSnapshot();
+        if (frame.getSession() == model.getLevelThread().getSession()) {
+            despawnUpdate(frame);
+
+            // update game sprites and sun count according to the snapshot
+            zombieUpdate(frame);
+            seedPacketUpdate(frame);
+            sunUpdate(frame);
+            updateProjectiles(frame);
+            tileUpdate(frame);
+            view.getLawn().updateSunCount(frame.getPlayerSun());
+        }
+    }
+
+    /** This method removes the sprites of the zombies, projectiles and
+     *  suns that despawned since the previous snapshot. IDs are never
+     *  shared between them, so each ID is removed from every list.
+     *
+     * @param frame the latest snapshot of the level
+     */
+    public void despawnUpdate(FrameSnapshot frame) {
+        int i;
+
+        for (i = 0; i < frame.getDespawnedCount(); i++) {
+            view.getLawn().getZombieSprites().remove(frame.getDespawned(i));
+            view.getLawn().getProjectileSprites().remove(frame.getDespawned(i));
+            view.getLawn().getSunSprites().remove(frame.getDespawned(i));
+        }
+    }
+
+    /** This method changes the panel shown by the view. The render loop,
+     *  and the render thread of an actively rendered lawn, only run
+     *  while the lawn is shown.
+     *
+     * @param panel the name of the panel to go to
+     */
+    public void showPanel(String panel) {
+        if (panel.equalsIgnoreCase("lawn")) {
+            renderLoop.start();
+            view.getLawn().startRendering(sceneTask);
+        }
+        else {
+            renderLoop.stop();
+            view.getLawn().stopRendering();
+        }
+
+        view.changePanel(panel);
+    }
+
+    /** This method returns the loop redrawing the lawn.
+     *
+     * @return the render loop of the controller
+     */
+    public RenderLoop getRenderLoop() {
+        return renderLoop;
     }
 
     /** This method is responsible for communicating the events done in the View
@@ -84,17 +160,21 @@ public class Controller implements ActionListener, MouseListener, MouseMotionLis
                 // only clear lawn if there are images
             }
             model.setLevelResult(-1);
-            model.selectLevel(model.getLevelProgress());
-            view.getLawn().initializeSeedPackets(model.getLevelThread().getLevel().getAvaliable_plants());
-            view.changePanel("lawn");
-            updateView();
-            System.out.println("Level " + model.getLevelThread().getLevel().getLEVEL_NUM());
+
+            // stay on the current panel if the previous level has not ended yet
+            if (model.selectLevel(model.getLevelProgress())) {
+                view.getLawn().initializeSeedPackets(model.getLevel().getAvaliable_plants());
+                showPanel("lawn");
+                System.out.println("Level " + model.getLevel().getLEVEL_NUM());
+            }
         }
 
         // quit the game
         else if (e.getActionCommand().equals("Quit")) {
             System.out.println("Pressed quit");
-            model.getLevelThread().interrupt();
+            renderLoop.stop();
+            view.getLawn().stopRendering();
+            model.shutdown();
             view.dispose();
             System.exit(0);
         }
@@ -104,14 +184,14 @@ public class Controller implements ActionListener, MouseListener, MouseMotionLis
             model.setLevelResult(-1);
             System.out.println("Pressed Forfeit");
             model.endLevel();
+            showPanel("menu");
             view.clearLawn();
-            view.changePanel("menu");
         }
 
         // back to menu
         else if (e.getActionCommand().equals("Back")) {
             model.setLevelResult(-1);
-            view.changePanel("menu");
+            showPanel("menu");
         }
     }
 
@@ -152,7 +232,7 @@ public class Controller implements ActionListener, MouseListener, MouseMotionLis
         try {
             // check if there is anything to drag and the plant is ready to be planted
             if (drag !=null) {
-                if (drag.getName().equalsIgnoreCase("shovel") || model.getLevelThread().isPlantReady(drag.getName())) {
+                if (drag.getName().equalsIgnoreCase("shovel") || drag.isReady()) {
                     Point currentPoint = e.getPoint();
 
                     // move the image (distance between vectors A and B = (xb - xa, yb - ya)
@@ -181,7 +261,7 @@ public class Controller implements ActionListener, MouseListener, MouseMotionLis
         try {
             int row, col;
             // if the draggable seed packet exists and its plant equivalent is ready
-            if (drag != null && (drag.getName().equalsIgnoreCase("shovel") || model.getLevelThread().isPlantReady(drag.getName()))) {
+            if (drag != null && (drag.getName().equalsIgnoreCase("shovel") || drag.isReady())) {
                 // snap the draggable back to its original position
                 Point r = new Point(drag.getOriginalCorner().x, drag.getOriginalCorner().y);
                 drag.getImageCorner().setLocation(r.x, r.y);
@@ -191,23 +271,13 @@ public class Controller implements ActionListener, MouseListener, MouseMotionLis
                     row = pixelToRow(e.getY());
                     col = pixelToCol(e.getX());
 
-                    // if the draggable is a seed packet if the tile is empty and the player has enough suns
+                    // the level thread checks if the tile is empty and the player has enough suns
                     if (!drag.getName().equalsIgnoreCase("shovel")) {
-                        if (model.getLevelThread().getLevel().canBePlaced(row, col) && model.getLevelThread().hasEnoughSuns(drag.getName())) {
-                            model.playerPlant(drag.getName(), row, col);
-
-                            SwingUtilities.invokeLater(new Runnable() {
-                                @Override
-                                public void run() {
-                                    view.getLawn().addTileImage(new GameImage(choosePlantImage((Plant) model.getLevelThread().getLevel().getTiles()[row][col]), columnToPixel(col), rowToPixel(row)), row, col);
-                                }
-                            });
-                        }
+                        if (view.getLawn().getTileGameImages()[row][col] == null)
+                            model.playerPlant(drag.getName(), row, col, this);
                     } else {
-                        if (!model.getLevelThread().getLevel().canBePlaced(row, col)) {
-                            System.out.println("Shoveled " + ((Plant) model.getLevelThread().getLevel().getTiles()[row][col]).getName());
-                            model.playerShovel(row, col);
-                        }
+                        if (view.getLawn().getTileGameImages()[row][col] != null)
+                            model.playerShovel(row, col, this);
                     }
                 }
 
@@ -228,31 +298,29 @@ public class Controller implements ActionListener, MouseListener, MouseMotionLis
     @Override
     public void mouseClicked(MouseEvent e) {
 
-        try
+        // the suns on the clicked tile are collected by the level thread on its next tick
+        if(model.getLevelThread().isOccupied() && isWithinField(e.getX(), e.getY()))
         {
-            ArrayList<Sun> suns = model.getLevelThread().getLevel().getSuns();
-
-            int i;
-            for(i = 0; i < suns.size(); i++)
-            {
-                if(suns.get(i) != null)
-                {
-                    //if mouse coordinates are on the same position with sun
-                    if((pixelToCol(e.getX()) == suns.get(i).getCol()) && (pixelToRow(e.getY()) == suns.get(i).getRow()))
-                    {
-                        model.getLevelThread().getPlayer().collectSun(suns.get(i).getAmount());
-                        view.getLawn().updateSunCount(model.getLevelThread().getPlayer().getSun());
-                        suns.get(i).deactivate();
-
-                    }
-                }
-
-            }
+            model.collectSun(pixelToRow(e.getY()), pixelToCol(e.getX()));
         }
-        catch(Exception x)
-        {
+    }
 
-        }
+    /** This method is told by the level thread whether a plant placed
+     *  or shoveled by the player went through.
+     *
+     * @param c the executed command
+     * @param success true if the command changed the level, false otherwise
+     */
+    @Override
+    public void commandExecuted(PlayerCommand c, boolean success) {
+        // this is called on the level thread, so it only prints when the level does
+        if (!model.getLevelThread().getLevel().isLogging())
+            return;
+
+        if (c.getType().equals(PlayerCommand.SHOVEL) && success)
+            System.out.println("Shoveled the tile at row " + c.getRow() + " col " + c.getCol());
+        else if (c.getType().equals(PlayerCommand.PLANT) && !success)
+            System.out.println(c.getPlantName() + " could not be placed");
     }
 
     /** This method checks if the mouse cursor's position is inside the lawn area.
@@ -334,417 +402,238 @@ public class Controller implements ActionListener, MouseListener, MouseMotionLis
         return (px - view.getLawn().getFieldPosX()) / view.getLawn().getTileWidth();
     }
 
-    /** This method updates the sprite position of a zombie sprite file.
+    /** This method updates the sprites of the zombies according to
+     *  the latest snapshot of the level. Sprites are kept by the ID of
+     *  their zombie, and their image is only changed when the sprite
+     *  state of their zombie changes. Walking
+     *  zombies are placed between the start and end of their last step
+     *  by how much of it has passed, so they move smoothly.
      *
+     * @param frame the latest snapshot of the level
      */
-    public void zombieUpdate()
+    public void zombieUpdate(FrameSnapshot frame)
     {
-        //access zombie array list in level
-        try {
-            ArrayList<Zombie> z = model.getLevelThread().getLevel().getEnemies();
-            int i;
-            double pixelX, pixelY;
-            GameImage image;
-
-            for (i = 0; i < z.size(); i++) {
-                //x and y coordinates conversion
-                pixelY = rowToPixel(z.get(i).getRow()); //this makes the image move grid by grid instead of continuously/smoothly
-                pixelX = columnToPixel(z.get(i).getCol());
-
-                // only check if the zombie is alive
-                if (z.get(i).isAlive()) {
-                    // if game image is null, make a new game image
-                    if (z.get(i).getGameImage() == null) {
-
-                        image = new GameImage(chooseZombieImage(z.get(i)), pixelX, pixelY);
-                        view.getLawn().addZombieImage(image);
-                        z.get(i).setGameImage(image);
-
-                    } else { // otherwise, just update its position and image according to its status
-                        z.get(i).getGameImage().setPixelX(pixelX);
-                        z.get(i).getGameImage().setImageIcon(chooseZombieImage(z.get(i)));
-
-                        if (z.get(i).isSlowed())
-                            z.get(i).getGameImage().setSlowed(true);
-                        else
-                            z.get(i).getGameImage().setSlowed(false);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // ignore
+        SpriteMap sprites = view.getLawn().getZombieSprites();
+        int i;
+        int t = frame.getTimeAt(System.nanoTime());
+        GameImage image;
+
+        sprites.beginFrame();
+        for (i = 0; i < frame.getZombieCount(); i++) {
+            image = sprites.place(frame.getZombieId(i),
+                    frame.getZombieKind(i) * Zombie.SPRITE_STATES + frame.getZombieState(i), zombieImages,
+                    columnToPixel(frame.getZombieCol(i, t)), rowToPixel(frame.getZombieRow(i)));
+            image.setSlowed(frame.hasZombieFlag(i, FrameSnapshot.SLOWED));
         }
+        sprites.endFrame();
     }
 
     /**
-     * This method returns the corresponding image of the given
-     * Zombie object. It will return the image depending on the state of the
+     * This method returns the corresponding image of a zombie.
+     * It will return the image depending on the state of the
      * zombie, whether it is walking or eating. It also considers other zombie
      * variants.
      *
-     * @param z Zombie object
-     * @return image icon assigned to the Zombie object
+     * @param kind the kind of the zombie, such as Zombie.CONEHEAD
+     * @param hasItem true if the zombie is still holding its item
+     * @param eating true if the zombie is eating
+     * @return image icon assigned to the zombie
      */
-    public ImageIcon chooseZombieImage(Zombie z)
+    public ImageIcon chooseZombieImage(int kind, boolean hasItem, boolean eating)
     {
-        ImageIcon image = null;
-        ImageIcon[] zombieImages = view.getLawn().getZombiesImgResources();
+        Asset image;
 
         // if zombie is a PolevaulterZombie
-        if (z instanceof PolevaulterZombie) {
-            if (z.getHeld_item() != null)
-                image = zombieImages[8];
-            else if (z.getIsEating())
-                image = zombieImages[9];
+        if (kind == Zombie.POLEVAULTER) {
+            if (hasItem)
+                image = Asset.POLEVAULTER_ZOMBIE;
+            else if (eating)
+                image = Asset.POLEVAULTER_ZOMBIE_EATING;
             else
-                image = zombieImages[10];
+                image = Asset.POLEVAULTER_ZOMBIE_WALKING;
         }
-        else if (z.getHeld_item() != null) { // if it has an item
+        else if (hasItem) { // if it has an item
             // if zombie is a flag bearer
-            if (z.getHeld_item().getNAME().equalsIgnoreCase("flag")) {
-                if (z.getIsEating())
-                    image = zombieImages[5];
+            if (kind == Zombie.FLAG) {
+                if (eating)
+                    image = Asset.FLAG_ZOMBIE_EATING;
                 else
-                    image = zombieImages[4];
+                    image = Asset.FLAG_ZOMBIE;
             }
             // if zombie has a cone
-            else if (z.getHeld_item().getNAME().equalsIgnoreCase("traffic cone")) {
-                if (z.getIsEating())
-                    image = zombieImages[3];
+            else if (kind == Zombie.CONEHEAD) {
+                if (eating)
+                    image = Asset.CONEHEAD_ZOMBIE_EATING;
                 else
-                    image = zombieImages[2];
+                    image = Asset.CONEHEAD_ZOMBIE;
             }
             // if zombie has a bucket
-            else {//(z.getHeld_item().getNAME().equalsIgnoreCase("bucket")) {
-                if (z.getIsEating())
-                    image = zombieImages[1];
+            else {
+                if (eating)
+                    image = Asset.BUCKETHEAD_ZOMBIE_EATING;
                 else
-                    image = zombieImages[0];
+                    image = Asset.BUCKETHEAD_ZOMBIE;
             }
         }
         else { // if zombie does not have any items
-            if(z.getIsEating())
-                image = zombieImages[7];
+            if (eating)
+                image = Asset.ZOMBIE_EATING;
             else
-                image = zombieImages[6];
+                image = Asset.ZOMBIE;
         }
 
-        return image;
+        return view.getAssets().get(image);
     }
 
     /**
-     * This method returns the corresponding image of the given Plant object,
-     * depending on what type of plant it is.
+     * This method chooses the image of every sprite state of the plants,
+     * zombies, projectiles and suns once, so updating their sprites only
+     * has to look the image of a state up.
      *
-     * @param p the Plant object that will be used to find its corresponding image
-     * @return Image Icon assigned to the Plant object
      */
-    public ImageIcon choosePlantImage(Plant p)
-    {
-        ImageIcon image = null;
-        ImageIcon[] plantImages = view.getLawn().getPlantsImgResources();
-        String[] plantNames = view.getLawn().getPlantNames();
-        int i;
-
-        for (i = 0; i < plantNames.length; i++) {
-            if (p.getName().equalsIgnoreCase(plantNames[i]))
-                image = plantImages[i];
-        }
-
-        return image;
+    private void loadSpriteImages() {
+        int kind, state;
+        PlantRegistry registry = PlantRegistry.getDefault();
+
+        zombieImages = new ImageIcon[Zombie.KINDS * Zombie.SPRITE_STATES];
+        for (kind = 0; kind < Zombie.KINDS; kind++)
+            for (state = 0; state < Zombie.SPRITE_STATES; state++)
+                zombieImages[kind * Zombie.SPRITE_STATES + state] = chooseZombieImage(kind,
+                        (state & Zombie.STATE_HAS_ITEM) != 0, (state & Zombie.STATE_EATING) != 0);
+
+        projectileImages = new ImageIcon[] {view.getAssets().get(Asset.PEA), view.getAssets().get(Asset.SNOW_PEA)};
+        sunImages = new ImageIcon[] {view.getAssets().get(Asset.SUN)};
+
+        plantImages = new ImageIcon[registry.size()][PLANT_STATES];
+        for (kind = 0; kind < registry.size(); kind++)
+            for (state = 0; state < PLANT_STATES; state++)
+                plantImages[kind][state] = view.getAssets().getPlant(registry.get(kind), state);
     }
 
     /**
-     * This method returns the corresponding image of the given
-     * GameElement object, depending on what type it is. 
-     * 
-     * 
-     * @param g the game element to be given an image
-     * @return the image icon of the game element
+     * This method returns the corresponding image of a plant,
+     * depending on what type of plant it is.
+     *
+     * @param type the ID of the plant type
+     * @return Image Icon assigned to the plant
      */
-    public ImageIcon chooseGameElementImage(GameElement g)
+    public ImageIcon choosePlantImage(int type)
     {
-        ImageIcon image = null;
-        ImageIcon[] gameElementImgs = view.getLawn().getGameElementsImgResources();
-        if(g instanceof Sun)
-            image = gameElementImgs[2];
-        else if (g instanceof SlownessProjectile)
-            image = gameElementImgs[1];
-        else
-            image = gameElementImgs[0];
-
-        return image;
+        return plantImages[type][0];
     }
 
     /**
-     * This method updates the images of Plant objects that have multiple
-     * states in the game. 
-     * 
+     * This method returns the corresponding image of what is placed
+     * on a tile, considering the states of plants that have multiple
+     * images such as the Wallnut and the PotatoMine.
+     *
+     * @param type the ID of the plant type on the tile, or FrameSnapshot.TOMBSTONE
+     * @param state the state of what is placed on the tile
+     * @return the image icon of the tile
      */
-    public void tileUpdate() {
-        try {
-            Entity[][] tiles = model.getLevelThread().getLevel().getTiles();
-            GameImage[][] tileImages = view.getLawn().getTileGameImages();
-
-            int rows = model.getLevelThread().getLevel().getROWS();
-            int cols = model.getLevelThread().getLevel().getCOLUMNS();
-            int i, j;
-
-            for (i = 0; i < rows; i++) {
-                for (j = 0; j < cols; j++) {
-                    if (tiles[i][j] != null) { // check if there is something in there
-                        if (tiles[i][j] instanceof Wallnut)
-                            updateWallnut((Wallnut) tiles[i][j]);
-                        else if (tiles[i][j] instanceof PotatoMine)
-                            updatePotatoMine((PotatoMine) tiles[i][j]);
-                        else if (tiles[i][j] instanceof Tombstone) {
-                            updateTombstone((Tombstone) tiles[i][j]);
-                        }
-                    }
-                    else
-                        view.getLawn().getTileGameImages()[i][j] = null; // otherwise, remove its sprite
-                }
-            }
-
-        } catch (Exception ignore) {
-            // only check if a level is running
-        }
+    public ImageIcon chooseTileImage(int type, byte state)
+    {
+        if (type == FrameSnapshot.TOMBSTONE)
+            return view.getAssets().get(Asset.TOMBSTONE);
+        else if (state > 0 && state < PLANT_STATES)
+            return plantImages[type][state];
+        else
+            return choosePlantImage(type);
     }
 
     /**
-     * This method updates the image of a Tombstone object with 
-     * respect to its current state in the game. 
-     * 
-     * @param t Tombstone object to be updated
+     * This method updates the images of the tiles according to the
+     * latest snapshot of the level. A tile only gets a new image when
+     * what is placed on it or its state has changed.
+     *
+     * @param frame the latest snapshot of the level
      */
-    public void updateTombstone(Tombstone t) {
-        // check position
-        int row, col;
-        row = (int) t.getRow();
-        col = (int) t.getCol();
-
-        // if there is no image, place one
-        if (t.getGameImage() == null) {
-            try {
-                // get image
-                ImageIcon src = new ImageIcon(getClass().getResource("/img/lawn/tombstone.png"));
-                double pixelX, pixelY;
-                GameImage image;
-
-                // convert row and col coordinates into x and y
-                pixelX = columnToPixel(col);
-                pixelY = rowToPixel(row);
-
-                // asign image into it
-                image = new GameImage(src, pixelX, pixelY);
-                view.getLawn().getTileGameImages()[row][col] = image;
-                t.setGameImage(image);
-            } catch (Exception e) {
-                System.out.println(e.getMessage());
-            }
-        }
-    }
-
-
-    /**
-     * This method updates the image of a Wallnut object with respect
-     * to its current state in the game 
-     * 
-     * @param w Wallnut object to be updated
-     */ 
-    public void updateWallnut(Wallnut w) {
-        ImageIcon[] states = view.getLawn().getPlantStateImgResources();
-        double pixelX, pixelY;
-        int row, col;
-        GameImage image;
-
-        row = (int)w.getRow();
-        col = (int)w.getCol();
-
-        pixelX = columnToPixel(col);
-        pixelY = rowToPixel(row);
-
-        if (w.checkHealthState() == 1) {
-            image = new GameImage(states[1], pixelX, pixelY);
-            view.getLawn().getTileGameImages()[row][col] = image;
-            w.setGameImage(image);
-        } else if (w.checkHealthState() == 2) {
-            image = new GameImage(states[2], pixelX, pixelY);
-            view.getLawn().getTileGameImages()[row][col] = image;
-            w.setGameImage(image);
+    public void tileUpdate(FrameSnapshot frame) {
+        GameImage[][] tileImages = view.getLawn().getTileGameImages();
+        int rows = Math.min(frame.getRows(), tileImages.length);
+        int i, j;
+        int type;
+        byte state;
+
+        if (shownTileTypes == null || shownTileTypes.length != frame.getRows() || shownTileTypes[0].length != frame.getColumns()) {
+            shownTileTypes = new int[frame.getRows()][frame.getColumns()];
+            shownTileStates = new byte[frame.getRows()][frame.getColumns()];
+            for (i = 0; i < shownTileTypes.length; i++)
+                Arrays.fill(shownTileTypes[i], FrameSnapshot.EMPTY);
         }
-    }
-
-    /**
-     * This method updates the image of a PotatoMine object with 
-     * respect to its current state in the game. 
-     * 
-     * 
-     * @param m PotatoMine object to be updated 
-     */ 
-    public void updatePotatoMine(PotatoMine m) {
-        ImageIcon[] states = view.getLawn().getPlantStateImgResources();
-        double pixelX, pixelY;
-        int row, col;
-        GameImage image;
 
-        row = (int)m.getRow();
-        col = (int)m.getCol();
+        for (i = 0; i < rows; i++) {
+            for (j = 0; j < Math.min(frame.getColumns(), tileImages[i].length); j++) {
+                type = frame.getTileType(i, j);
+                state = frame.getTileState(i, j);
 
-        pixelX = columnToPixel(col);
-        pixelY = rowToPixel(row);
-
-        try {
-            int timer = model.getLevelThread().getLevelTimer();
+                // only change the sprite if the tile has changed or its sprite was cleared
+                if (type != shownTileTypes[i][j] || state != shownTileStates[i][j] || (type != FrameSnapshot.EMPTY && tileImages[i][j] == null)) {
+                    if (type != FrameSnapshot.EMPTY)
+                        tileImages[i][j] = new GameImage(chooseTileImage(type, state), columnToPixel(j), rowToPixel(i));
+                    else
+                        tileImages[i][j] = null; // otherwise, remove its sprite
 
-            if (m.isPrimed(timer)) {
-                image = new GameImage(states[0], pixelX, pixelY); //primed state image
-                view.getLawn().getTileGameImages()[row][col] = image;
-                m.setGameImage(image);
+                    shownTileTypes[i][j] = type;
+                    shownTileStates[i][j] = state;
+                }
             }
-        } catch (Exception ignore) {
-
         }
     }
 
     /** This method updates the sprite image of a seed packet draggable object.
      *
+     * @param frame the latest snapshot of the level
      */
-    public void seedPacketUpdate() {
+    public void seedPacketUpdate(FrameSnapshot frame) {
         int i;
-
-        if (model.getLevelThread().getLevel() != null && model.getLevelResult() == -1) {
-            for (i = 0; i < view.getLawn().getSeedPackets().length; i++) {
-                if (view.getLawn().getSeedPackets()[i] != null) {
-                    String name = view.getLawn().getSeedPackets()[i].getName();
-
-                    if (!name.equalsIgnoreCase("shovel")) {
-                        //if seedPacket is not ready to be used, image shaded
-                        if (!model.getLevelThread().isPlantReady(name) || !model.getLevelThread().hasEnoughSuns(name))
-                            view.getLawn().getSeedPackets()[i].setFilterOpacity(true);
-                        else
-                            view.getLawn().getSeedPackets()[i].setFilterOpacity(false);
-                    }
-                }
-            } 
-        }
-    }
-
-    /**
-     * This method updates the image of a Sun object shown in the game
-     * 
-     */
-    public void sunUpdate()
-    {
-        //access the array list of suns in level
-        //if it has landed add the image using its given position
-        //convert it to its x and y coordinates
-
-        try
-        {
-            ArrayList<Sun> suns = model.getLevelThread().getLevel().getSuns();
-            int i;
-            double x, y;
-            GameImage image;
-            for(i = 0; i < suns.size(); i++)
-            {
-                // check if it is active and it doesnt have a null image
-                if(suns.get(i).isActive() && suns.get(i).getGameImage() == null)
-                {
-                    // get coordinates
-                    x = columnToPixel(suns.get(i).getCol());
-                    y = rowToPixel(suns.get(i).getRow());
-
-                    image = new GameImage(chooseGameElementImage(suns.get(i)), x, y);
-                    view.getLawn().addSunImage(image);
-                    suns.get(i).setGameImage(image);
+        Draggable[] seedPackets = view.getLawn().getSeedPackets();
+
+        // the seed packets are in the same order as the available plants
+        if (model.getLevelResult() == -1) {
+            for (i = 0; i < Math.min(seedPackets.length, frame.getPlantCount()); i++) {
+                //if seedPacket is not ready to be used, image shaded
+                if (seedPackets[i] != null) {
+                    seedPackets[i].setFilterOpacity(!frame.isPlantAvailable(i));
+                    seedPackets[i].setReady(frame.isPlantReady(i));
                 }
             }
         }
-        catch(Exception e)
-        {
-
-        }
     }
 
     /**
-     * This method updates the image of a Projectile object shown in the game. 
-     * 
-     * 
+     * This method updates the images of the suns shown in the game
+     * according to the latest snapshot of the level.
+     *
+     * @param frame the latest snapshot of the level
      */
-    public void updateProjectiles() {
-        try {
-            ArrayList<Projectile> projectiles = model.getLevelThread().getLevel().getPeas();
-            int i;
-            double pixelX, pixelY;
-            GameImage image;
-
-            for (i = 0; i < projectiles.size(); i++) {
-                // check if the projectile is active
-                if (projectiles.get(i).isActive()) {
-                    // get coordinates
-                    pixelY = rowToPixel(projectiles.get(i).getRow());
-                    pixelX = columnToPixel(projectiles.get(i).getCol());
-
-                    // if it doesnt have an image yet, give it one
-                    if (projectiles.get(i).getGameImage() == null) {
-                        image = new GameImage(chooseGameElementImage(projectiles.get(i)), pixelX, pixelY);
-                        view.getLawn().addProjectileImage(image);
-                        projectiles.get(i).setGameImage(image);
-                    }
-                    else { // otherwise, just update the position
-                        projectiles.get(i).getGameImage().setPixelX(pixelX);
-                         //System.out.println("X coord: " + projectiles.get(i).getGameImage().getPixelX());
-                    }
-                }
-        
-            }
-
+    public void sunUpdate(FrameSnapshot frame)
+    {
+        SpriteMap sprites = view.getLawn().getSunSprites();
+        int i;
 
-        } catch (Exception ignore) {
-            // only check if a level exists
-        }
+        sprites.beginFrame();
+        for (i = 0; i < frame.getSunCount(); i++)
+            sprites.place(frame.getSunId(i), 0, sunImages, columnToPixel(frame.getSunCol(i)), rowToPixel(frame.getSunRow(i)));
+        sprites.endFrame();
     }
 
     /**
-     * This method despawns objects and updates its images 
-     * accordingly. 
-     * 
-     * 
+     * This method updates the images of the projectiles shown in the game
+     * according to the latest snapshot of the level.
+     *
+     * @param frame the latest snapshot of the level
      */
-    public void despawnObjects() {
+    public void updateProjectiles(FrameSnapshot frame) {
+        SpriteMap sprites = view.getLawn().getProjectileSprites();
         int i;
+        int t = frame.getTimeAt(System.nanoTime());
 
-        ArrayList<Zombie> enemies = model.getLevelThread().getLevel().getEnemies();
-        ArrayList<GameImage> enemyImg = view.getLawn().getZombieGameImages();
-
-        ArrayList<Projectile> projectiles = model.getLevelThread().getLevel().getPeas();
-        ArrayList<GameImage> projectileImg = view.getLawn().getProjectileGameImages();
-
-        ArrayList<Sun> suns = model.getLevelThread().getLevel().getSuns();
-        ArrayList<GameImage> sunImg = view.getLawn().getSunGameImages();
-
-        for (i = 0; i < enemies.size(); i++) {
-            if (!enemies.get(i).isAlive()) {
-                enemyImg.remove(i);
-                enemies.remove(i);
-                Zombie.die();
-            }
-        }
-
-        for (i = 0; i < projectiles.size(); i++) {
-            if (!projectiles.get(i).isActive()) {
-                projectileImg.remove(i);
-                projectiles.remove(i);
-            }
-        }
-
-        for (i = 0; i < suns.size(); i++) {
-            if (!suns.get(i).isActive()) {
-                sunImg.remove(i);
-                suns.remove(i);
-            }
-        }
+        sprites.beginFrame();
+        for (i = 0; i < frame.getProjectileCount(); i++)
+            sprites.place(frame.getProjectileId(i), frame.isSlownessProjectile(i) ? 1 : 0, projectileImages,
+                    columnToPixel(frame.getProjectileCol(i, t)), rowToPixel(frame.getProjectileRow(i)));
+        sprites.endFrame();
     }
 
     @Override
@@ -771,4 +660,24 @@ public class Controller implements ActionListener, MouseListener, MouseMotionLis
     private View view;
     /** the panel to be dragged*/
     private Draggable drag;
+    /** the latest snapshot of the level that was drawn*/
+    private FrameSnapshot frame;
+    /** the plant type of what each tile was last drawn with*/
+    private int[][] shownTileTypes;
+    /** the state of what each tile was last drawn with*/
+    private byte[][] shownTileStates;
+    /** the image of each sprite state of each kind of zombie*/
+    private ImageIcon[] zombieImages;
+    /** the images of a pea and a frozen pea*/
+    private ImageIcon[] projectileImages;
+    /** the image of a sun*/
+    private ImageIcon[] sunImages;
+    /** the image of each sprite state of each plant type*/
+    private ImageIcon[][] plantImages;
+    /** the number of sprite states a plant can be drawn in*/
+    private static final int PLANT_STATES = 3;
+    /** the loop redrawing the lawn*/
+    private RenderLoop renderLoop;
+    /** the task updating the sprites of an actively rendered lawn*/
+    private Runnable sceneTask;
 }
\ No newline at end of file
@@ -39,7 +39,7 @@ public class Cooldown {
     public boolean isReady(int currentTime)
     {
         //return currentTime >= System.currentTimeMillis()/1000- lastPlaced + cooldown;
-        return currentTime >= lastPlaced + cooldown;
+        return currentTime >= lastPlaced + cooldown * SimulationClock.SECOND;
     }
 
     /**
@@ -60,14 +60,25 @@ public class Cooldown {
      * before the type of plant can be planted again. 
      * 
      * @param currentTime current time in the game
-     * @return remaining time left before cooldown is over 
+     * @return remaining time left in milliseconds before cooldown is over 
      */
     public int getRemainingTime(int currentTime)
     {
-        int remaining = (lastPlaced + cooldown) - currentTime;
+        int remaining = (lastPlaced + cooldown * SimulationClock.SECOND) - currentTime;
         return Math.max(0, remaining);
     }
 
+    /**
+     * This method returns the time the plant type is ready
+     * to be planted again.
+     *
+     * @return the time the cooldown is over in milliseconds
+     */
+    public int getReadyTime()
+    {
+        return lastPlaced + cooldown * SimulationClock.SECOND;
+    }
+
     /**
      * This method returns the type of plant. 
      * 
@@ -33,6 +33,15 @@ public class Draggable extends JPanel {
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
+        paintSprite(g);
+    }
+
+    /** This method draws the image and status of the draggable object
+     *  onto any surface, such as the canvas of the lawn.
+     *
+     * @param g the graphics of the surface to be drawn on
+     */
+    public void paintSprite(Graphics g) {
         Graphics filter = g;
 
         // if a draggable is in cooldown, make the filter semi-transparent
@@ -41,7 +50,7 @@ public class Draggable extends JPanel {
         else
             filter.setColor(new Color(59,59,59, 0));
 
-        imageSprite.paintIcon(this,g,image_corner.x,image_corner.y);
+        imageSprite.paintIcon(null,g,image_corner.x,image_corner.y);
 
         // cover the image with the filter
         filter.drawRoundRect(image_corner.x, image_corner.y, imageSprite.getIconWidth(), imageSprite.getIconHeight(), 4,4);
@@ -56,6 +65,24 @@ public class Draggable extends JPanel {
         filterOpacity = b;
     }
 
+    /** This method sets whether the plant of the draggable object is
+     *  ready to be placed.
+     *
+     * @param b true if the plant is ready, false otherwise
+     */
+    public void setReady(boolean b) {
+        ready = b;
+    }
+
+    /** This method checks if the plant of the draggable object is
+     *  ready to be placed.
+     *
+     * @return true if the plant is ready, false otherwise
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
     /** This method sets a point as its previous point.
      *
      * @param p the previous point of the draggable
@@ -119,5 +146,7 @@ public class Draggable extends JPanel {
     /** the previous point of reference*/
     private Point previous_corner;
     /** determines whether the filter is semi-opaque or transparent*/
-    private boolean filterOpacity;
+    private volatile boolean filterOpacity;
+    /** determines whether the plant of the object is ready to be placed*/
+    private volatile boolean ready;
 }
\ No newline at end of file
@@ -26,7 +26,7 @@ abstract class Entity {
         row = r;
         col = c;
         internal_time = t;
-        gameImage = null;
+        id = EntityIds.NONE;
     }
 
     /**
@@ -43,6 +43,7 @@ abstract class Entity {
         speed = s;
         damage = d;
         internal_time = t;
+        id = EntityIds.NONE;
     }
 
     /** This method subtracts the health of an entity
@@ -173,23 +174,37 @@ abstract class Entity {
     }
 
     /**
-     * This method returns the game image of entity. 
-     * 
-     * @return game image of entity
+     * This method returns the state of the entity that decides how it
+     * looks. It only changes when the entity changes state, such as a
+     * wallnut getting damaged, so the GUI only has to change the sprite
+     * of an entity when its sprite state is different from before.
+     *
+     * @return the sprite state of the entity, 0 if it only has one look
+     */
+    public byte getSpriteState()
+    {
+        return 0;
+    }
+
+    /**
+     * This method returns the ID the level gave the entity, which
+     * the GUI keeps its sprite by.
+     *
+     * @return the ID of the entity, or EntityIds.NONE if it has none
      */
-    public GameImage getGameImage()
+    public int getId()
     {
-        return gameImage;
+        return id;
     }
 
     /**
-     * This method sets the game image of entity. 
-     * 
-     * @param g game image to be set
+     * This method sets the ID the level gave the entity.
+     *
+     * @param i the ID of the entity
      */
-    public void setGameImage(GameImage g)
+    public void setId(int i)
     {
-        gameImage = g;
+        id = i;
     }
 
 
@@ -205,6 +220,6 @@ abstract class Entity {
     private float col;
     /** The internal time of the enemy*/
     private int internal_time;
-    /** The gameImage to be displayed in GUI */
-    private GameImage gameImage;
+    /** The ID of the entity in its level */
+    private int id;
 }
@@ -0,0 +1,130 @@
+import java.util.Arrays;
+
+/** This class hands out the IDs of the zombies, projectiles and suns of
+ *  a level. An ID holds an index and a generation. The index is reused
+ *  once its owner is removed, but its generation is raised first, so an
+ *  old ID never matches the new owner of the same index. Whoever keeps
+ *  something by ID, such as the sprites of the GUI, can then use the
+ *  index to find it and the whole ID to tell if it is still the same.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class EntityIds {
+    /** This constructor initializes an allocator that has not handed
+     *  out any IDs yet.
+     *
+     */
+    public EntityIds() {
+        generations = new int[64];
+        live = new boolean[64];
+        freeIndices = new int[64];
+        freeCount = 0;
+        nextIndex = 0;
+        liveCount = 0;
+    }
+
+    /** This method hands out a new ID, reusing a freed index if there is one.
+     *
+     * @return the new ID
+     * @throws IllegalStateException if every index is in use
+     */
+    public int allocate() {
+        int index;
+
+        if (freeCount > 0)
+            index = freeIndices[--freeCount];
+        else {
+            if (nextIndex > INDEX_MASK)
+                throw new IllegalStateException("Too many entities");
+
+            if (nextIndex == generations.length) {
+                generations = Arrays.copyOf(generations, nextIndex * 2);
+                live = Arrays.copyOf(live, nextIndex * 2);
+                freeIndices = Arrays.copyOf(freeIndices, nextIndex * 2);
+            }
+
+            index = nextIndex++;
+        }
+
+        live[index] = true;
+        liveCount++;
+        return generations[index] << INDEX_BITS | index;
+    }
+
+    /** This method frees an ID so its index can be handed out again.
+     *  IDs that are not in use are ignored.
+     *
+     * @param id the ID to be freed
+     */
+    public void release(int id) {
+        int index = indexOf(id);
+
+        if (!isLive(id))
+            return;
+
+        generations[index] = (generations[index] + 1) & GENERATION_MASK;
+        live[index] = false;
+        freeIndices[freeCount++] = index;
+        liveCount--;
+    }
+
+    /** This method checks if an ID is still in use.
+     *
+     * @param id the ID to be checked
+     * @return true if the ID has been handed out and not freed, false otherwise
+     */
+    public boolean isLive(int id) {
+        int index = indexOf(id);
+
+        return id >= 0 && index < nextIndex && live[index] && generations[index] == generationOf(id);
+    }
+
+    /** This method returns the number of IDs in use.
+     *
+     * @return the number of IDs in use
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /** This method returns the index of an ID.
+     *
+     * @param id the ID
+     * @return the index of the ID
+     */
+    public static int indexOf(int id) {
+        return id & INDEX_MASK;
+    }
+
+    /** This method returns the generation of an ID.
+     *
+     * @param id the ID
+     * @return the generation of the ID
+     */
+    public static int generationOf(int id) {
+        return id >>> INDEX_BITS;
+    }
+
+    /** the ID of nothing*/
+    public static final int NONE = -1;
+    /** the number of bits holding the index of an ID*/
+    public static final int INDEX_BITS = 16;
+    /** the bits holding the index of an ID*/
+    public static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    /** the bits of a generation, which keep every ID positive*/
+    public static final int GENERATION_MASK = (1 << (31 - INDEX_BITS)) - 1;
+    /** the generation of each index*/
+    private int[] generations;
+    /** dictates whether each index is in use*/
+    private boolean[] live;
+    /** the indices that can be handed out again*/
+    private int[] freeIndices;
+    /** the number of freed indices*/
+    private int freeCount;
+    /** the first index that has never been handed out*/
+    private int nextIndex;
+    /** the number of IDs in use*/
+    private int liveCount;
+}
@@ -10,7 +10,6 @@ public class FlagZombie extends Zombie{
      * @param t the current time frame of the game
      */
     public FlagZombie (int r, int c, int t) {
-        super(r, c, t, new Item("Flag", 1, 0));
+        super(r, c, t, ZombieType.get(FLAG));
     }
-
 }
@@ -0,0 +1,634 @@
+import java.util.Arrays;
+
+/** This class represents a read-only copy of everything the GUI needs to
+ *  draw one frame of a level: the positions and states of the zombies,
+ *  projectiles and suns, what is placed on each tile, and the sun count
+ *  and cooldowns of the player. The thread running the level fills in a
+ *  snapshot after its ticks, and the GUI only ever reads a finished one,
+ *  so the GUI never touches the lists the level is changing. Snapshots
+ *  are reused from frame to frame, so their arrays only grow. Zombies
+ *  and projectiles also keep where their last step started, so they can
+ *  be drawn gliding between steps instead of jumping. Zombies, projectiles
+ *  and suns are given with their IDs, along with the IDs that have been
+ *  despawned since the last snapshot the GUI read, so the GUI can keep
+ *  their sprites by ID instead of by their position in the lists.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class FrameSnapshot {
+    /** This constructor initializes an empty snapshot that does not
+     *  belong to any level yet.
+     *
+     */
+    public FrameSnapshot() {
+        session = -1;
+        zombieIds = new int[16];
+        zombieRows = new float[16];
+        zombieCols = new float[16];
+        zombiePreviousCols = new float[16];
+        zombieStepTimes = new int[16];
+        zombieKinds = new int[16];
+        zombieFlags = new byte[16];
+        projectileIds = new int[16];
+        projectileRows = new float[16];
+        projectileCols = new float[16];
+        projectilePreviousCols = new float[16];
+        projectileStepTimes = new int[16];
+        projectileSlowness = new boolean[16];
+        sunIds = new int[8];
+        sunRows = new float[8];
+        despawned = new int[8];
+        sunCols = new float[8];
+        tileTypes = new int[0][0];
+        tileStates = new byte[0][0];
+        plantTypes = new int[0];
+        plantReady = new boolean[0];
+        plantAffordable = new boolean[0];
+    }
+
+    /** This method copies the current state of a level into the snapshot.
+     *  The IDs despawned by the level are added to those already in the
+     *  snapshot, which are only left there when the GUI never read it.
+     *
+     * @param s the session number of the level
+     * @param level the level to be copied
+     * @param player the player of the level
+     * @param currentTime the current time of the level
+     */
+    public void capture(int s, Level level, Player player, int currentTime) {
+        int i, j, row, count;
+        Zombie z;
+        Projectile p;
+        Sun sun;
+        Entity e;
+        ProjectileLanes peas = level.getPeas();
+        PlantType[] plants = level.getAvaliable_plants();
+        PlantType type;
+        Cooldown[] cooldowns = level.getCooldowns();
+
+        // IDs are only unique within a session
+        if (session != s)
+            despawnedCount = 0;
+
+        session = s;
+        time = currentTime;
+        capturedAt = System.nanoTime();
+        playerSun = player.getSun();
+
+        // zombies
+        zombieCount = 0;
+        for (i = 0; i < level.getEnemies().size(); i++) {
+            z = level.getEnemies().get(i);
+
+            if (z.isAlive()) {
+                if (zombieCount == zombieRows.length)
+                    growZombies();
+
+                zombieIds[zombieCount] = z.getId();
+                zombieRows[zombieCount] = z.getRow();
+                zombieCols[zombieCount] = z.getCol();
+                zombiePreviousCols[zombieCount] = z.getPreviousCol();
+                zombieStepTimes[zombieCount] = z.getInternal_time();
+                zombieKinds[zombieCount] = z.getKind();
+                zombieFlags[zombieCount] = z.getSpriteState();
+                zombieCount++;
+            }
+        }
+
+        // projectiles
+        projectileCount = 0;
+        for (row = 0; row < peas.getRows(); row++)
+            for (i = 0; i < peas.getCount(row); i++) {
+                p = peas.get(row, i);
+
+                if (p.isActive()) {
+                    if (projectileCount == projectileRows.length)
+                        growProjectiles();
+
+                    projectileIds[projectileCount] = p.getId();
+                    projectileRows[projectileCount] = p.getRow();
+                    projectileCols[projectileCount] = p.getCol();
+                    projectilePreviousCols[projectileCount] = p.getPreviousCol();
+                    projectileStepTimes[projectileCount] = p.getInternal_Time();
+                    projectileSlowness[projectileCount] = p instanceof SlownessProjectile;
+                    projectileCount++;
+                }
+            }
+
+        // suns
+        sunCount = 0;
+        for (i = 0; i < level.getSuns().size(); i++) {
+            sun = level.getSuns().get(i);
+
+            if (sun.isActive()) {
+                if (sunCount == sunRows.length) {
+                    sunIds = Arrays.copyOf(sunIds, sunCount * 2);
+                    sunRows = Arrays.copyOf(sunRows, sunCount * 2);
+                    sunCols = Arrays.copyOf(sunCols, sunCount * 2);
+                }
+
+                sunIds[sunCount] = sun.getId();
+                sunRows[sunCount] = sun.getRow();
+                sunCols[sunCount] = sun.getCol();
+                sunCount++;
+            }
+        }
+
+        // despawns
+        count = despawnedCount + level.getDespawnedCount();
+        if (count > despawned.length)
+            despawned = Arrays.copyOf(despawned, Math.max(count, despawned.length * 2));
+        for (i = despawnedCount; i < count; i++)
+            despawned[i] = level.getDespawned(i - despawnedCount);
+        despawnedCount = count;
+        level.clearDespawned();
+
+        // tiles
+        if (tileTypes.length != level.getROWS() || tileTypes[0].length != level.getCOLUMNS()) {
+            tileTypes = new int[level.getROWS()][level.getCOLUMNS()];
+            tileStates = new byte[level.getROWS()][level.getCOLUMNS()];
+        }
+
+        for (i = 0; i < level.getROWS(); i++)
+            for (j = 0; j < level.getCOLUMNS(); j++) {
+                e = level.getTiles()[i][j];
+                tileStates[i][j] = e != null ? e.getSpriteState() : 0;
+
+                if (e instanceof Plant) {
+                    // plants made without a plant type are looked up by name
+                    type = ((Plant)e).getType();
+                    if (type == null)
+                        type = PlantRegistry.getDefault().get(((Plant)e).getName());
+                    tileTypes[i][j] = type != null ? type.getId() : EMPTY;
+                }
+                else if (e instanceof Tombstone)
+                    tileTypes[i][j] = TOMBSTONE;
+                else
+                    tileTypes[i][j] = EMPTY;
+            }
+
+        // seed packets
+        if (plantTypes.length != plants.length) {
+            plantTypes = new int[plants.length];
+            plantReady = new boolean[plants.length];
+            plantAffordable = new boolean[plants.length];
+        }
+
+        for (i = 0; i < plants.length; i++) {
+            plantTypes[i] = plants[i].getId();
+            plantReady[i] = cooldowns[i].isReady(currentTime);
+            plantAffordable[i] = playerSun >= plants[i].getCost();
+        }
+    }
+
+    /** This method checks if the snapshot has been published but not
+     *  yet read by the GUI.
+     *
+     * @return true if the snapshot has not been read yet, false otherwise
+     */
+    public boolean isFresh() {
+        return fresh;
+    }
+
+    /** This method sets whether the snapshot has been read by the GUI.
+     *
+     * @param f true if the snapshot has not been read yet, false otherwise
+     */
+    public void setFresh(boolean f) {
+        fresh = f;
+    }
+
+    /** This method returns the session number of the level the snapshot
+     *  was taken from.
+     *
+     * @return the session number, or -1 if the snapshot is empty
+     */
+    public int getSession() {
+        return session;
+    }
+
+    /** This method returns the time of the level when the snapshot was taken.
+     *
+     * @return the time of the level in milliseconds
+     */
+    public int getTime() {
+        return time;
+    }
+
+    /** This method returns the time of the level at the given moment,
+     *  counting the time that has passed since the snapshot was taken.
+     *  The level time is ahead of the snapshot by at most a second, in
+     *  case the level stops publishing snapshots.
+     *
+     * @param nanos the moment in nanoseconds, as given by System.nanoTime()
+     * @return the time of the level at that moment in milliseconds
+     */
+    public int getTimeAt(long nanos) {
+        long elapsed = (nanos - capturedAt) / 1000000;
+
+        return time + (int)Math.max(0, Math.min(SimulationClock.SECOND, elapsed));
+    }
+
+    /** This method returns the amount of suns the player had.
+     *
+     * @return the amount of suns of the player
+     */
+    public int getPlayerSun() {
+        return playerSun;
+    }
+
+    /** This method returns the number of living zombies.
+     *
+     * @return the number of zombies
+     */
+    public int getZombieCount() {
+        return zombieCount;
+    }
+
+    /** This method returns the row of a zombie.
+     *
+     * @param i the index of the zombie
+     * @return the row of the zombie
+     */
+    public float getZombieRow(int i) {
+        return zombieRows[i];
+    }
+
+    /** This method returns the column of a zombie.
+     *
+     * @param i the index of the zombie
+     * @return the column of the zombie
+     */
+    public float getZombieCol(int i) {
+        return zombieCols[i];
+    }
+
+    /** This method returns the column a zombie is drawn at, at the given
+     *  time. A walking zombie glides from where its last step started
+     *  to where it ended over the length of a step.
+     *
+     * @param i the index of the zombie
+     * @param t the time being drawn, as given by getTimeAt()
+     * @return the column the zombie is drawn at
+     */
+    public float getZombieCol(int i, int t) {
+        if (hasZombieFlag(i, EATING))
+            return zombieCols[i];
+
+        return interpolate(zombiePreviousCols[i], zombieCols[i], zombieStepTimes[i], t);
+    }
+
+    /** This method returns the ID of a zombie.
+     *
+     * @param i the index of the zombie
+     * @return the ID of the zombie
+     */
+    public int getZombieId(int i) {
+        return zombieIds[i];
+    }
+
+    /** This method returns the kind of a zombie.
+     *
+     * @param i the index of the zombie
+     * @return the kind of the zombie, such as Zombie.CONEHEAD
+     */
+    public int getZombieKind(int i) {
+        return zombieKinds[i];
+    }
+
+    /** This method returns the sprite state of a zombie.
+     *
+     * @param i the index of the zombie
+     * @return the flags of the zombie, such as SLOWED
+     */
+    public byte getZombieState(int i) {
+        return zombieFlags[i];
+    }
+
+    /** This method checks if a flag of a zombie is set.
+     *
+     * @param i the index of the zombie
+     * @param flag the flag to be checked, such as SLOWED
+     * @return true if the flag is set, false otherwise
+     */
+    public boolean hasZombieFlag(int i, byte flag) {
+        return (zombieFlags[i] & flag) != 0;
+    }
+
+    /** This method returns the number of active projectiles.
+     *
+     * @return the number of projectiles
+     */
+    public int getProjectileCount() {
+        return projectileCount;
+    }
+
+    /** This method returns the row of a projectile.
+     *
+     * @param i the index of the projectile
+     * @return the row of the projectile
+     */
+    public float getProjectileRow(int i) {
+        return projectileRows[i];
+    }
+
+    /** This method returns the column of a projectile.
+     *
+     * @param i the index of the projectile
+     * @return the column of the projectile
+     */
+    public float getProjectileCol(int i) {
+        return projectileCols[i];
+    }
+
+    /** This method returns the column a projectile is drawn at, at the
+     *  given time. The projectile glides from where its last step started
+     *  to where it ended over the length of a step.
+     *
+     * @param i the index of the projectile
+     * @param t the time being drawn, as given by getTimeAt()
+     * @return the column the projectile is drawn at
+     */
+    public float getProjectileCol(int i, int t) {
+        return interpolate(projectilePreviousCols[i], projectileCols[i], projectileStepTimes[i], t);
+    }
+
+    /** This method checks if a projectile slows down zombies.
+     *
+     * @param i the index of the projectile
+     * @return true if it is a slowness projectile, false otherwise
+     */
+    public boolean isSlownessProjectile(int i) {
+        return projectileSlowness[i];
+    }
+
+    /** This method returns the ID of a projectile.
+     *
+     * @param i the index of the projectile
+     * @return the ID of the projectile
+     */
+    public int getProjectileId(int i) {
+        return projectileIds[i];
+    }
+
+    /** This method returns the number of uncollected suns.
+     *
+     * @return the number of suns
+     */
+    public int getSunCount() {
+        return sunCount;
+    }
+
+    /** This method returns the ID of a sun.
+     *
+     * @param i the index of the sun
+     * @return the ID of the sun
+     */
+    public int getSunId(int i) {
+        return sunIds[i];
+    }
+
+    /** This method returns the row of a sun.
+     *
+     * @param i the index of the sun
+     * @return the row of the sun
+     */
+    public float getSunRow(int i) {
+        return sunRows[i];
+    }
+
+    /** This method returns the column of a sun.
+     *
+     * @param i the index of the sun
+     * @return the column of the sun
+     */
+    public float getSunCol(int i) {
+        return sunCols[i];
+    }
+
+    /** This method returns the number of zombies, projectiles and suns
+     *  despawned since the previous snapshot read by the GUI.
+     *
+     * @return the number of despawned IDs
+     */
+    public int getDespawnedCount() {
+        return despawnedCount;
+    }
+
+    /** This method returns one of the IDs despawned since the previous
+     *  snapshot read by the GUI.
+     *
+     * @param i the index of the despawn
+     * @return the despawned ID
+     */
+    public int getDespawned(int i) {
+        return despawned[i];
+    }
+
+    /** This method empties the list of despawned IDs once the GUI has
+     *  read them.
+     *
+     */
+    public void clearDespawned() {
+        despawnedCount = 0;
+    }
+
+    /** This method returns the number of rows of the lawn.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return tileTypes.length;
+    }
+
+    /** This method returns the number of columns of the lawn.
+     *
+     * @return the number of columns
+     */
+    public int getColumns() {
+        return tileTypes.length > 0 ? tileTypes[0].length : 0;
+    }
+
+    /** This method returns what is placed on a tile.
+     *
+     * @param row the row of the tile
+     * @param col the column of the tile
+     * @return the ID of the plant type, TOMBSTONE, or EMPTY if the tile is empty
+     */
+    public int getTileType(int row, int col) {
+        return tileTypes[row][col];
+    }
+
+    /** This method returns the state of what is placed on a tile, which
+     *  is the health stage of a wallnut or 1 for a primed potato mine.
+     *
+     * @param row the row of the tile
+     * @param col the column of the tile
+     * @return the state of the tile
+     */
+    public byte getTileState(int row, int col) {
+        return tileStates[row][col];
+    }
+
+    /** This method returns the number of available plants.
+     *
+     * @return the number of available plants
+     */
+    public int getPlantCount() {
+        return plantTypes.length;
+    }
+
+    /** This method returns the type of an available plant.
+     *
+     * @param i the position of the plant among the available plants
+     * @return the ID of the plant type
+     */
+    public int getPlantType(int i) {
+        return plantTypes[i];
+    }
+
+    /** This method checks if a plant can be placed right now, which
+     *  means its cooldown is over and the player has enough suns.
+     *
+     * @param i the position of the plant among the available plants
+     * @return true if the plant can be placed, false otherwise
+     */
+    public boolean isPlantAvailable(int i) {
+        return plantReady[i] && plantAffordable[i];
+    }
+
+    /** This method checks if the cooldown of a plant is over.
+     *
+     * @param i the position of the plant among the available plants
+     * @return true if the plant is ready, false otherwise
+     */
+    public boolean isPlantReady(int i) {
+        return plantReady[i];
+    }
+
+    /** This method finds the position between the start and the end of
+     *  a step by the fraction of the step that has passed.
+     *
+     * @param from the position the step started at
+     * @param to the position the step ended at
+     * @param stepTime the time the step was taken
+     * @param t the time being drawn
+     * @return the position at the given time
+     */
+    private static float interpolate(float from, float to, int stepTime, int t) {
+        float f = (t - stepTime) / (float)STEP;
+
+        if (f <= 0)
+            return from;
+        else if (f >= 1)
+            return to;
+        else
+            return from + (to - from) * f;
+    }
+
+    /** This method doubles the room for zombies.
+     *
+     */
+    private void growZombies() {
+        int n = zombieRows.length * 2;
+
+        zombieIds = Arrays.copyOf(zombieIds, n);
+        zombieRows = Arrays.copyOf(zombieRows, n);
+        zombieCols = Arrays.copyOf(zombieCols, n);
+        zombiePreviousCols = Arrays.copyOf(zombiePreviousCols, n);
+        zombieStepTimes = Arrays.copyOf(zombieStepTimes, n);
+        zombieKinds = Arrays.copyOf(zombieKinds, n);
+        zombieFlags = Arrays.copyOf(zombieFlags, n);
+    }
+
+    /** This method doubles the room for projectiles.
+     *
+     */
+    private void growProjectiles() {
+        int n = projectileRows.length * 2;
+
+        projectileIds = Arrays.copyOf(projectileIds, n);
+        projectileRows = Arrays.copyOf(projectileRows, n);
+        projectileCols = Arrays.copyOf(projectileCols, n);
+        projectilePreviousCols = Arrays.copyOf(projectilePreviousCols, n);
+        projectileStepTimes = Arrays.copyOf(projectileStepTimes, n);
+        projectileSlowness = Arrays.copyOf(projectileSlowness, n);
+    }
+
+    /** the flag of a slowed zombie*/
+    public static final byte SLOWED = Zombie.STATE_SLOWED;
+    /** the flag of a zombie that is eating*/
+    public static final byte EATING = Zombie.STATE_EATING;
+    /** the flag of a zombie holding an item*/
+    public static final byte HAS_ITEM = Zombie.STATE_HAS_ITEM;
+    /** the tile type of an empty tile*/
+    public static final int EMPTY = -1;
+    /** the tile type of a tombstone*/
+    public static final int TOMBSTONE = -2;
+    /** the time between the steps of zombies and projectiles*/
+    public static final int STEP = SimulationClock.SECOND;
+    /** whether the snapshot has been published but not read yet*/
+    private volatile boolean fresh;
+    /** the session number of the level*/
+    private int session;
+    /** the time of the level*/
+    private int time;
+    /** the moment the snapshot was taken in nanoseconds*/
+    private long capturedAt;
+    /** the amount of suns of the player*/
+    private int playerSun;
+    /** the number of zombies*/
+    private int zombieCount;
+    /** the ID of each zombie*/
+    private int[] zombieIds;
+    /** the row of each zombie*/
+    private float[] zombieRows;
+    /** the column of each zombie*/
+    private float[] zombieCols;
+    /** the column each zombie started its last step at*/
+    private float[] zombiePreviousCols;
+    /** the time of the last step of each zombie*/
+    private int[] zombieStepTimes;
+    /** the kind of each zombie*/
+    private int[] zombieKinds;
+    /** the flags of each zombie*/
+    private byte[] zombieFlags;
+    /** the number of projectiles*/
+    private int projectileCount;
+    /** the ID of each projectile*/
+    private int[] projectileIds;
+    /** the row of each projectile*/
+    private float[] projectileRows;
+    /** the column of each projectile*/
+    private float[] projectileCols;
+    /** the column each projectile started its last step at*/
+    private float[] projectilePreviousCols;
+    /** the time of the last step of each projectile*/
+    private int[] projectileStepTimes;
+    /** whether each projectile slows down zombies*/
+    private boolean[] projectileSlowness;
+    /** the number of suns*/
+    private int sunCount;
+    /** the ID of each sun*/
+    private int[] sunIds;
+    /** the row of each sun*/
+    private float[] sunRows;
+    /** the column of each sun*/
+    private float[] sunCols;
+    /** the number of IDs despawned since the previous snapshot read by the GUI*/
+    private int despawnedCount;
+    /** the IDs despawned since the previous snapshot read by the GUI*/
+    private int[] despawned;
+    /** the plant type ID of what is placed on each tile*/
+    private int[][] tileTypes;
+    /** the state of what is placed on each tile*/
+    private byte[][] tileStates;
+    /** the plant type IDs of the available plants*/
+    private int[] plantTypes;
+    /** whether the cooldown of each plant is over*/
+    private boolean[] plantReady;
+    /** whether the player can afford each plant*/
+    private boolean[] plantAffordable;
+}
@@ -26,8 +26,26 @@ abstract class GameElement {
         col = c;
         internal_time = t;
         isActive = true;
+        id = EntityIds.NONE;
     }
  
+    /**
+     * This method resets the position and internal time of
+     * a game element that is being reused, and sets it as
+     * active again.
+     *
+     * @param r row position
+     * @param c column position
+     * @param t internal time of a gameElement
+     */
+    public void reset(float r, float c, int t)
+    {
+        row = r;
+        col = c;
+        internal_time = t;
+        isActive = true;
+    }
+
     /**
      * This method updates the behavior or actions
      * of the game element for every given time. 
@@ -131,23 +149,24 @@ abstract class GameElement {
     }
 
     /**
-     * This method returns the game image of a game element.
+     * This method returns the ID the level gave the game element,
+     * which the GUI keeps its sprite by.
      *
-     * @return game image of entity
+     * @return the ID of the game element, or EntityIds.NONE if it has none
      */
-    public GameImage getGameImage()
+    public int getId()
     {
-        return image;
+        return id;
     }
 
     /**
-     * This method sets the game image of a game element.
+     * This method sets the ID the level gave the game element.
      *
-     * @param g the game image of entity
+     * @param i the ID of the game element
      */
-    public void setGameImage(GameImage g)
+    public void setId(int i)
     {
-        image = g;
+        id = i;
     }
 
     /**row position of game element */
@@ -158,6 +177,6 @@ abstract class GameElement {
     private boolean isActive;
     /**internal time of the game element*/
     private int internal_time;
-    /**game image of game element */
-    private GameImage image;
+    /**ID of the game element in its level */
+    private int id;
 }
@@ -18,6 +18,7 @@ public class GameImage {
         this.image = image;
         this.pixelX = pixelX;
         this.pixelY = pixelY;
+        this.state = -1;
     }
 
     /**
@@ -106,7 +107,28 @@ public class GameImage {
         return slowed;
     }
 
+    /**
+     * This method sets the sprite state of what the GameImage
+     * object shows, which its image was chosen for.
+     *
+     * @param s the sprite state shown by the GameImage object
+     */
+    public void setState(int s) {
+        state = s;
+    }
+
+    /**
+     * This method gets the sprite state of what the GameImage
+     * object shows.
+     *
+     * @return the sprite state, or -1 if no image has been chosen yet
+     */
+    public int getState() {
+        return state;
+    }
+
     private ImageIcon image;
     private double pixelX, pixelY;
     private boolean slowed;
+    private int state;
 }
@@ -0,0 +1,337 @@
+import java.util.ArrayList;
+
+/** This class runs a level without any GUI. The level is driven by a
+ *  virtual simulation clock that advances as fast as the CPU allows,
+ *  and the player's actions are given as a script of commands. It can be
+ *  ran on its own as a command-line batch runner. Commands are executed
+ *  in order, and a plant that cannot be placed yet is retried until it can.
+ *  By default, the clock jumps straight to the next tick in which anything
+ *  can happen, such as a zombie stepping or a plant shooting, and skips
+ *  the ticks in between. This gives the same results as running every
+ *  tick, since the skipped ticks would not change anything.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class HeadlessSimulation {
+    /** This constructor initializes the level to be simulated,
+     *  its player, and the clock that will drive the level.
+     *
+     * @param l the level to be simulated
+     * @param tickRate the number of ticks per simulated second
+     */
+    public HeadlessSimulation(Level l, int tickRate) {
+        level = l;
+        level.setLogging(false);
+        player = new Player(level.getStartingSun());
+        clock = new SimulationClock(tickRate);
+        script = new ArrayList<>();
+        nextCommand = 0;
+        autoCollect = false;
+        eventDriven = true;
+        cycles = 0;
+    }
+
+    /** This method adds a command to the script of the player.
+     *  Commands are kept sorted by their time of execution.
+     *
+     * @param c the command to be added
+     */
+    public void addCommand(ScriptedCommand c) {
+        int i = script.size();
+
+        while (i > 0 && script.get(i - 1).getTime() > c.getTime())
+            i--;
+
+        script.add(i, c);
+    }
+
+    /** This method sets whether the player collects every sun
+     *  as soon as it appears.
+     *
+     * @param b the auto collect status of the player
+     */
+    public void setAutoCollect(boolean b) {
+        autoCollect = b;
+    }
+
+    /** This method sets whether the clock skips the ticks in which nothing
+     *  can happen, or runs every tick.
+     *
+     * @param b true to skip to the next event, false to run every tick
+     */
+    public void setEventDriven(boolean b) {
+        eventDriven = b;
+    }
+
+    /** This method runs the level until it is either won or lost.
+     *
+     * @return true if the level was won, false if it was lost
+     */
+    public boolean run() {
+        int time = 0;
+        long start = System.nanoTime();
+
+        while (!level.isGameOver() && !level.isGameWon(time)) {
+            if (eventDriven)
+                clock.advanceTo(Math.max(clock.getTick() + 1, clock.tickAt(getNextEventTime(time))));
+            else
+                clock.advance();
+            time = clock.getTime();
+            cycles++;
+
+            executeCommands(time);
+
+            level.gameCycle(time);
+
+            if (autoCollect)
+                collectSuns();
+
+            level.pruneInactive();
+        }
+
+        elapsedNanos = System.nanoTime() - start;
+        won = level.isGameWon(time);
+
+        return won;
+    }
+
+    /** This method finds the earliest time anything can happen in the
+     *  level or in the script of the player after the given time.
+     *
+     * @param currentTime the time of the last tick
+     * @return the time of the next event
+     */
+    public int getNextEventTime(int currentTime) {
+        int next = level.getNextEventTime(currentTime);
+        ScriptedCommand c;
+
+        if (nextCommand < script.size()) {
+            c = script.get(nextCommand);
+
+            // a command that is waiting to be retried is due once it can succeed
+            if (c.getTime() > currentTime)
+                next = Math.min(next, c.getTime());
+            else
+                next = Math.min(next, c.getRetryTime(level, player));
+        }
+
+        return next;
+    }
+
+    /** This method executes the player's commands that are due in order.
+     *  A plant that cannot be afforded or is still in cooldown is retried
+     *  on the next tick, and the commands after it wait for it.
+     *
+     * @param currentTime the current time frame of the level
+     */
+    public void executeCommands(int currentTime) {
+        ScriptedCommand c;
+        boolean waiting = false;
+
+        while (!waiting && nextCommand < script.size() && script.get(nextCommand).getTime() <= currentTime) {
+            c = script.get(nextCommand);
+
+            if (c.execute(level, player, currentTime) || !c.canBeRetried(level))
+                nextCommand++;
+            else
+                waiting = true;
+        }
+    }
+
+    /** This method makes the player collect all suns that are
+     *  currently present in the level.
+     *
+     */
+    public void collectSuns() {
+        int i;
+        Sun s;
+
+        for (i = 0; i < level.getSuns().size(); i++) {
+            s = level.getSuns().get(i);
+
+            if (s.isActive()) {
+                player.collectSun(s.getAmount());
+                s.deactivate();
+            }
+        }
+    }
+
+    /** This method counts the plants currently placed in the level.
+     *
+     * @return the number of plants in the level
+     */
+    public int countPlants() {
+        return level.getPlants().size();
+    }
+
+    /** This method returns the level being simulated.
+     *
+     * @return the level being simulated
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /** This method returns the player of the simulated level.
+     *
+     * @return the player of the simulated level
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /** This method returns the number of ticks simulated so far.
+     *
+     * @return the number of ticks simulated
+     */
+    public long getTicks() {
+        return clock.getTick();
+    }
+
+    /** This method returns the number of game cycles that were ran,
+     *  which is less than the number of ticks when ticks are skipped.
+     *
+     * @return the number of game cycles ran
+     */
+    public long getCycles() {
+        return cycles;
+    }
+
+    /** This method returns the current time frame of the simulated level.
+     *
+     * @return the current time frame in milliseconds
+     */
+    public int getTime() {
+        return clock.getTime();
+    }
+
+    /** This method returns the number of zombies killed so far.
+     *
+     * @return the number of zombies killed
+     */
+    public int getZombiesKilled() {
+        return level.getZombiesKilled();
+    }
+
+    /** This method returns the wall time the last run took.
+     *
+     * @return the wall time of the last run in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** This method checks if the last run was won.
+     *
+     * @return true if the last run was won, false otherwise
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /** This method creates a new level given its level number and
+     *  the seed of its random number generator.
+     *
+     * @param n the level number
+     * @param seed the seed of the level
+     * @return the created level
+     * @throws IllegalArgumentException if the level does not exist
+     */
+    public static Level createLevel(int n, long seed) {
+        switch (n) {
+            case 1:
+                return new Level1(0, seed);
+            case 2:
+                return new Level2(0, seed);
+            case 3:
+                return new Level3(0, seed);
+            default:
+                throw new IllegalArgumentException("There is no level " + n);
+        }
+    }
+
+    /** This method runs a level from the command line and prints its
+     *  outcome and performance. The first argument is the level number,
+     *  followed by any of these options and commands:
+     *  <pre>
+     *    -rate n                       the number of ticks per second
+     *    -seed n                       the seed of the level
+     *    -collect                      collect every sun as soon as it appears
+     *    -ticked                       run every tick instead of skipping to the next event
+     *    plant:second:row:col:name     place a plant (use _ for spaces)
+     *    shovel:second:row:col         shovel a tile
+     *    collect:second:row:col        collect the suns of a tile
+     *  </pre>
+     *
+     * @param args the command-line arguments passed to the Java program when executed.
+     */
+    public static void main(String[] args) {
+        int i;
+        int rate = SimulationClock.DEFAULT_TICK_RATE;
+        long seed = System.nanoTime();
+        boolean collect = false;
+        boolean ticked = false;
+        ArrayList<ScriptedCommand> commands = new ArrayList<>();
+        HeadlessSimulation sim;
+        double seconds;
+
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length == 0) {
+            System.out.println("Usage: java HeadlessSimulation <level> [-rate n] [-seed n] [-collect] [-ticked] [plant:second:row:col:name] [shovel:second:row:col] [collect:second:row:col]");
+            return;
+        }
+
+        for (i = 1; i < args.length; i++) {
+            if (args[i].equals("-rate") && i + 1 < args.length)
+                rate = Integer.parseInt(args[++i]);
+            else if (args[i].equals("-seed") && i + 1 < args.length)
+                seed = Long.parseLong(args[++i]);
+            else if (args[i].equals("-collect"))
+                collect = true;
+            else if (args[i].equals("-ticked"))
+                ticked = true;
+            else
+                commands.add(ScriptedCommand.parse(args[i]));
+        }
+
+        sim = new HeadlessSimulation(createLevel(Integer.parseInt(args[0]), seed), rate);
+        sim.setAutoCollect(collect);
+        sim.setEventDriven(!ticked);
+        for (i = 0; i < commands.size(); i++)
+            sim.addCommand(commands.get(i));
+
+        sim.run();
+        seconds = sim.getElapsedNanos() / 1e9;
+
+        System.out.println("Level " + sim.getLevel().getLEVEL_NUM() + " " + (sim.isWon() ? "won" : "lost")
+                + " at " + (sim.getTime() / (double)SimulationClock.SECOND) + "s (seed " + sim.getLevel().getSeed() + ")");
+        System.out.println("Ticks: " + sim.getTicks() + " (" + sim.getCycles() + " ran) in " + seconds + "s (" + (long)(sim.getTicks() / seconds) + " ticks/sec)");
+        System.out.println("Zombies killed: " + sim.getZombiesKilled() + ", alive: " + sim.getLevel().getEnemies().size());
+        System.out.println("Plants: " + sim.countPlants() + ", suns: " + sim.getLevel().getSuns().size()
+                + ", projectiles: " + sim.getLevel().getPeas().size() + ", player suns: " + sim.getPlayer().getSun());
+    }
+
+    /** the level being simulated*/
+    private Level level;
+    /** the player of the simulated level*/
+    private Player player;
+    /** the virtual clock driving the level*/
+    private SimulationClock clock;
+    /** the commands of the player sorted by time*/
+    private ArrayList<ScriptedCommand> script;
+    /** the index of the next command to be executed*/
+    private int nextCommand;
+    /** dictates whether the player collects suns automatically*/
+    private boolean autoCollect;
+    /** dictates whether the clock skips the ticks in which nothing can happen*/
+    private boolean eventDriven;
+    /** the number of game cycles ran*/
+    private long cycles;
+    /** the wall time of the last run*/
+    private long elapsedNanos;
+    /** the result of the last run*/
+    private boolean won;
+}
@@ -0,0 +1,183 @@
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+/** This class represents the surface the lawn is actively rendered on.
+ *  Instead of waiting for Swing to repaint the lawn, a render thread of
+ *  its own updates the sprites from the latest snapshot of the level and
+ *  draws them into a back buffer, which is then flipped or copied onto
+ *  the screen. Frames are paced to fixed deadlines, so frame times stay
+ *  steady no matter how busy the Swing thread is with input.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class LawnCanvas extends Canvas implements Runnable {
+    /** This constructor initializes the lawn to be drawn and the
+     *  frame rate to draw it at.
+     *
+     * @param l the lawn to be drawn
+     * @param fps the target number of frames per second
+     */
+    public LawnCanvas(LawnPanel l, int fps) {
+        LAWN = l;
+        setIgnoreRepaint(true);
+        setTargetFps(fps);
+        running = false;
+    }
+
+    /** This method sets the task ran before every frame is drawn, which
+     *  updates the sprites of the lawn.
+     *
+     * @param task the task updating the sprites
+     */
+    public void setFrameTask(Runnable task) {
+        frameTask = task;
+    }
+
+    /** This method starts the render thread if it is not running yet.
+     *
+     */
+    public synchronized void startRendering() {
+        if (renderThread == null) {
+            running = true;
+            renderThread = new Thread(this, "Render Thread");
+            renderThread.setDaemon(true);
+            renderThread.start();
+        }
+    }
+
+    /** This method stops the render thread and waits for it to finish
+     *  the frame it is drawing, so the sprites can be changed safely
+     *  afterwards.
+     *
+     */
+    public void stopRendering() {
+        Thread t;
+
+        synchronized (this) {
+            t = renderThread;
+            renderThread = null;
+            running = false;
+        }
+
+        if (t != null && t != Thread.currentThread()) {
+            LockSupport.unpark(t);
+
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** This method checks if the render thread is running.
+     *
+     * @return true if the lawn is being rendered, false otherwise
+     */
+    public boolean isRendering() {
+        return running;
+    }
+
+    /** This method changes the target frame rate of the render thread.
+     *
+     * @param fps the target number of frames per second
+     * @throws IllegalArgumentException if the frame rate is not positive
+     */
+    public void setTargetFps(int fps) {
+        if (fps <= 0)
+            throw new IllegalArgumentException("Invalid frame rate: " + fps);
+
+        frameNanos = 1000000000L / fps;
+    }
+
+    /** This method draws frames until the render thread is stopped. Each
+     *  frame has a fixed deadline, and the thread parks until the next
+     *  one. If drawing falls behind by more than a frame, the late frames
+     *  are dropped instead of being drawn back to back.
+     *
+     */
+    @Override
+    public void run() {
+        long deadline = System.nanoTime();
+        long now;
+
+        while (running) {
+            try {
+                if (isDisplayable() && getWidth() > 0 && getHeight() > 0) {
+                    if (frameTask != null)
+                        frameTask.run();
+                    render();
+                }
+            } catch (IllegalStateException e) {
+                // the canvas lost its peer, so make a new buffer on the next frame
+                strategy = null;
+            }
+
+            deadline += frameNanos;
+            now = System.nanoTime();
+            if (now - deadline > frameNanos)
+                deadline = now;
+
+            while (running && (now = System.nanoTime()) < deadline)
+                LockSupport.parkNanos(deadline - now);
+        }
+    }
+
+    /** This method draws a single frame into the back buffer and shows it.
+     *  The frame is drawn again if the contents of the buffer were lost
+     *  while drawing.
+     *
+     */
+    private void render() {
+        Graphics g;
+
+        if (strategy == null) {
+            createBufferStrategy(2);
+            strategy = getBufferStrategy();
+        }
+
+        do {
+            do {
+                g = strategy.getDrawGraphics();
+                try {
+                    LAWN.paintLawn(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            strategy.show();
+        } while (strategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /** This method stops rendering once the canvas is removed from the
+     *  screen, since its buffers are no longer valid.
+     *
+     */
+    @Override
+    public void removeNotify() {
+        stopRendering();
+        strategy = null;
+        super.removeNotify();
+    }
+
+    /** the default number of frames per second*/
+    public static final int DEFAULT_FPS = 60;
+    /** the lawn being drawn*/
+    private final LawnPanel LAWN;
+    /** the task updating the sprites before each frame*/
+    private volatile Runnable frameTask;
+    /** the thread drawing the frames*/
+    private Thread renderThread;
+    /** dictates whether the render thread keeps drawing*/
+    private volatile boolean running;
+    /** the time between frames in nanoseconds*/
+    private volatile long frameNanos;
+    /** the buffers the frames are drawn into*/
+    private BufferStrategy strategy;
+}
@@ -1,14 +1,15 @@
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.util.ArrayList;
-import javax.imageio.ImageIO;
+import java.awt.image.VolatileImage;
 import javax.swing.*;
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 /**
  * This class represents the Gameplay Gui of the game.
+ * When the "pvz.activeRendering" system property is set, the lawn is
+ * drawn by a canvas with its own render thread instead of by Swing,
+ * and Swing is only left with the buttons.
  *
  *  @author PieIsSpy
  *  @author rachell-code
@@ -22,45 +23,13 @@ public class LawnPanel extends JPanel {
      * @param width the width of the panel
      * @param height the height of the panel
      * @param forfeit the forfeit button to be formatted
+     * @param a the loaded images of the game
      */
-    public LawnPanel(int width, int height, JButton forfeit)
+    public LawnPanel(int width, int height, JButton forfeit, AssetManager a)
     {
-
-        // get lawn bg
-        try {
-            lawnImg = new ImageIcon(getClass().getResource("/img/lawn/lawnImg.png"));
-        }
-        catch (Exception e) {
-            System.out.println(e.getMessage());
-        }
-
-        // get seed slot img
-        try {
-            seedSlotImg = new ImageIcon(getClass().getResource("img/lawn/seedSlotImg.png"));
-        } catch (Exception e) {
-            System.out.println(e.getMessage());
-        }
-
-        // read image files
-        plantsImgResources = readFiles("/img/lawn/plants"); //already stores the images
-        System.out.println("entitiesImg size: " + plantsImgResources.length);
-        System.out.println();
-
-        zombiesImgResources = readFiles("/img/lawn/zombies"); //already stores the images
-        System.out.println("zombiesImgsize: " + zombiesImgResources.length);
-        System.out.println();
-
-        gameElementsImgResources = readFiles("/img/lawn/gameElements");
-        System.out.println("gameElementsImgResources size: " + gameElementsImgResources.length);
-        System.out.println();
-
-        seedPacketsImgResources = readFiles("/img/lawn/draggable/seedPackets");
-        System.out.println("seedPacketsImgResources size: " + seedPacketsImgResources.length);
-        System.out.println();
-
-        plantStateImgResources = readFiles("/img/lawn/plantStates");
-        System.out.println("plantStatesImg size: " + plantStateImgResources.length);
-        System.out.println();
+        assets = a;
+        lawnImg = assets.get(Asset.LAWN);
+        seedSlotImg = assets.get(Asset.SEED_SLOT);
 
         // lawn area
         TILE_WIDTH = FIELD_WIDTH / 9;
@@ -72,13 +41,24 @@ public class LawnPanel extends JPanel {
 
         // image containers
         tileGameImages = new GameImage[5][9];
-        zombieGameImages = new ArrayList<>();
-        sunGameImages = new ArrayList<>();
-        projectileGameImages = new ArrayList<>();
+        layeredTiles = new GameImage[5][9];
+        zombieSprites = new SpriteMap();
+        sunSprites = new SpriteMap();
+        projectileSprites = new SpriteMap();
         seedPackets = new Draggable[6];
+        sprites = new SpriteCache();
 
         setLayout(null);
         addComponents(forfeit);
+
+        // the canvas goes below every other component
+        if (Boolean.getBoolean("pvz.activeRendering")) {
+            canvas = new LawnCanvas(this, Integer.getInteger("pvz.fps", LawnCanvas.DEFAULT_FPS));
+            canvas.setBounds(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
+            sunCount.setVisible(false);
+            dragArea.setVisible(false);
+            add(canvas);
+        }
     }
 
     /**
@@ -89,138 +69,192 @@ public class LawnPanel extends JPanel {
     @Override
     public void paintComponent(Graphics g)
     {
-        int i, j;
-        int x, y;
         super.paintComponent(g);
 
-        if (lawnImg != null)
-            g.drawImage(lawnImg.getImage(), 0, 0, this.getWidth(), this.getHeight(), null);
+        // the canvas draws the lawn by itself
+        if (canvas == null)
+            paintLawn(g);
+    }
 
-        if (seedSlotImg != null)
-            g.drawImage(seedSlotImg.getImage(), 10,10, (int)(seedSlotImg.getIconWidth()*0.8),(int)(seedSlotImg.getIconHeight()*0.8), null);
+    /**
+     * This method draws the background and every sprite of the lawn.
+     * When the lawn is actively rendered, the seed packets, the shovel
+     * and the sun count are drawn as well, since Swing components
+     * cannot be shown on top of the canvas.
+     *
+     * @param g the graphics of the surface to be drawn on
+     */
+    public void paintLawn(Graphics g)
+    {
+        int i;
+        GameImage target;
+        GraphicsConfiguration gc = ((Graphics2D)g).getDeviceConfiguration();
 
-        for (i = 0; i < tileGameImages.length; i++) {
-            for (j = 0; j < tileGameImages[i].length; j++) {
-                GameImage target = tileGameImages[i][j];
-                if (target != null)
-                    g.drawImage(target.getImageIcon().getImage(), (int)target.getPixelX(), (int)target.getPixelY(), TILE_WIDTH, TILE_HEIGHT, null);
-            }
-        }
+        // sprites are made for the screen they are drawn on
+        sprites.validate(gc);
 
-        for(i = 0; i < zombieGameImages.size(); i++)
+        // the background and the plants only change when a tile does
+        paintStaticLayer(g, gc);
+
+        for(i = 0; i < zombieSprites.size(); i++)
         {
-            if(zombieGameImages.get(i) != null)
+            target = zombieSprites.get(i);
+            if(target != null)
             {
-                x = (int) zombieGameImages.get(i).getPixelX();
-                y = (int) zombieGameImages.get(i).getPixelY();
-
-                g.drawImage(zombieGameImages.get(i).getImageIcon().getImage(), x, y, TILE_WIDTH, TILE_HEIGHT, null);
-
-                if (getZombieGameImages().get(i).isSlowed()) {
-                    g.setColor(new Color(0, 0, 255, 50));
-                    g.fillRect(x,y, TILE_WIDTH, TILE_HEIGHT);
-                }
+                // slowed zombies have their blue tint already applied
+                if (target.isSlowed())
+                    g.drawImage(sprites.getSlowed(target.getImageIcon(), TILE_WIDTH, TILE_HEIGHT), (int)target.getPixelX(), (int)target.getPixelY(), null);
+                else
+                    g.drawImage(sprites.get(target.getImageIcon(), TILE_WIDTH, TILE_HEIGHT), (int)target.getPixelX(), (int)target.getPixelY(), null);
             }
         }
 
-        for(i = 0; i < sunGameImages.size(); i++)
+        for(i = 0; i < sunSprites.size(); i++)
         {
-            if(sunGameImages.get(i) != null)
+            target = sunSprites.get(i);
+            if(target != null)
             {
-                g.drawImage(sunGameImages.get(i).getImageIcon().getImage(), (int)sunGameImages.get(i).getPixelX(), (int)sunGameImages.get(i).getPixelY(), (int)(TILE_WIDTH*0.7), (int)(TILE_HEIGHT*0.7), null);
+                g.drawImage(sprites.get(target.getImageIcon(), (int)(TILE_WIDTH*0.7), (int)(TILE_HEIGHT*0.7)), (int)target.getPixelX(), (int)target.getPixelY(), null);
             }
         }
-        
-        for (i = 0 ; i < projectileGameImages.size(); i++)
-            if (projectileGameImages.get(i) != null)
-                g.drawImage(projectileGameImages.get(i).getImageIcon().getImage(), (int)projectileGameImages.get(i).getPixelX(), (int)projectileGameImages.get(i).getPixelY(), (int)projectileGameImages.get(i).getImageIcon().getIconWidth(), (int)projectileGameImages.get(i).getImageIcon().getIconHeight(), null);
+
+        for (i = 0 ; i < projectileSprites.size(); i++) {
+            target = projectileSprites.get(i);
+            if (target != null)
+                g.drawImage(sprites.get(target.getImageIcon(), target.getImageIcon().getIconWidth(), target.getImageIcon().getIconHeight()), (int)target.getPixelX(), (int)target.getPixelY(), null);
+        }
+
+        if (canvas != null) {
+            for (i = 0; i < seedPackets.length; i++)
+                if (seedPackets[i] != null)
+                    seedPackets[i].paintSprite(g);
+
+            if (shovelDraggable != null)
+                shovelDraggable.paintSprite(g);
+
+            g.setFont(sunCount.getFont());
+            g.setColor(sunCount.getForeground());
+            g.drawString(Integer.toString(sunAmount), sunCount.getX(),
+                    sunCount.getY() + (sunCount.getHeight() + g.getFontMetrics().getAscent() - g.getFontMetrics().getDescent()) / 2);
+        }
     }
 
-    /** This method is responsible for reading all files in a folder
-     *  and converts them into an array of image icons.
+    /**
+     * This method draws the layer of the lawn that rarely changes: the
+     * background, the seed slot and the plants. The layer is kept in an
+     * image of the screen's memory, and only the tiles whose sprite has
+     * changed since the last frame are drawn into it again. If the
+     * screen loses the contents of the layer, it is drawn again from
+     * scratch, and if no such image can be made the layer is drawn
+     * straight onto the surface instead.
      *
-     * @param folderPath the folder to be read
-     * @return the array of image icons read by the method
+     * @param g the graphics of the surface to be drawn on
+     * @param gc the configuration of the surface to be drawn on
      */
-    public ImageIcon[] readFiles(String folderPath) {
-        int i = 0;
-
-        try {
-            String url = getClass().getResource(folderPath).getPath(); //string pathname
-            System.out.println(url);
-            File path = new File(url); //creates a new file instance pointing to the location of that directory
-            File[] files = path.listFiles(); //stores the files in the given path
-
-            // read and store images
-            if (files !=null) {
-                if (folderPath.equalsIgnoreCase("/img/lawn/draggable/seedPackets")) {
-                    plantNames = new String[files.length]; //instatiates the plant names based on number of files
-                    readPlantNames(files);
+    private void paintStaticLayer(Graphics g, GraphicsConfiguration gc)
+    {
+        int i, j;
+        int status;
+        Graphics2D lg;
+
+        if (this.getWidth() <= 0 || this.getHeight() <= 0)
+            return;
+
+        do {
+            // make a new layer if there is none or it no longer fits the screen
+            if (staticLayer == null)
+                status = VolatileImage.IMAGE_INCOMPATIBLE;
+            else
+                status = staticLayer.validate(gc);
+
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE || staticLayer.getWidth() != this.getWidth() || staticLayer.getHeight() != this.getHeight()) {
+                try {
+                    staticLayer = gc.createCompatibleVolatileImage(this.getWidth(), this.getHeight());
+                } catch (RuntimeException e) {
+                    staticLayer = null;
                 }
 
-                System.out.println("Files read: " + files.length);
-                ImageIcon[] container = new ImageIcon[files.length]; //stores the images in the given path
-                readImages(files, container);
-
-                System.out.println("Final check: ");
-                while (i < container.length && container[i] != null) {
-                    System.out.println(container[i].toString());
-                    i++;
+                if (staticLayer == null) {
+                    paintStatic(g, 0, 0, tileGameImages.length, tileGameImages[0].length);
+                    return;
                 }
 
-                System.out.println("Returning " + i + " elements");
+                status = VolatileImage.IMAGE_RESTORED;
+            }
+
+            lg = staticLayer.createGraphics();
+
+            // the contents were lost, so every tile has to be drawn again
+            if (status == VolatileImage.IMAGE_RESTORED) {
+                paintStatic(lg, 0, 0, tileGameImages.length, tileGameImages[0].length);
 
-                return container; //returns the images in the given directory path
+                for (i = 0; i < tileGameImages.length; i++)
+                    for (j = 0; j < tileGameImages[i].length; j++)
+                        layeredTiles[i][j] = tileGameImages[i][j];
+            }
+            else {
+                for (i = 0; i < tileGameImages.length; i++)
+                    for (j = 0; j < tileGameImages[i].length; j++)
+                        if (layeredTiles[i][j] != tileGameImages[i][j]) {
+                            paintStatic(lg, i, j, i + 1, j + 1);
+                            layeredTiles[i][j] = tileGameImages[i][j];
+                        }
             }
-        } catch (Exception e) {
-            System.out.println("readFiles()");
-            System.out.println(e.getMessage());
-        }
 
-        return null;
+            lg.dispose();
+            g.drawImage(staticLayer, 0, 0, null);
+        } while (staticLayer.contentsLost());
     }
 
-    /** This method is responsible for reading all the image contents
-     *  of a given file array and stores them into an image icon array
-     *  container.
+    /**
+     * This method draws the background and plants of a block of tiles.
+     * When the block covers the whole lawn, the seed slot and the
+     * background outside of the lawn area are drawn as well.
      *
-     * @param files the files to be read
-     * @param container the container to be stored
+     * @param g the graphics of the surface to be drawn on
+     * @param firstRow the first row of the block
+     * @param firstCol the first col of the block
+     * @param endRow the row after the last row of the block
+     * @param endCol the col after the last col of the block
      */
-    public void readImages(File[] files, ImageIcon[] container) {
-        int i = 0;
-
-        // for every file in the container, scan for images
-        for (File f : files) {
-            try {
-                System.out.println(f.getName());
-                container[i] = new ImageIcon(ImageIO.read(files[i]));
-                i++;
-            } catch (Exception e) {
-                System.out.println("readImages()");
-                System.out.println(e.getMessage());
-            }
+    private void paintStatic(Graphics g, int firstRow, int firstCol, int endRow, int endCol)
+    {
+        int i, j;
+        int x, y, w, h;
+        GameImage target;
+        BufferedImage background = null;
+
+        if (lawnImg != null)
+            background = sprites.get(lawnImg, this.getWidth(), this.getHeight());
+
+        // the area covered by the block
+        if (firstRow == 0 && firstCol == 0 && endRow == tileGameImages.length && endCol == tileGameImages[0].length) {
+            x = 0;
+            y = 0;
+            w = this.getWidth();
+            h = this.getHeight();
+        }
+        else {
+            x = FIELD_X + firstCol * TILE_WIDTH;
+            y = FIELD_Y + firstRow * TILE_HEIGHT;
+            w = (endCol - firstCol) * TILE_WIDTH;
+            h = (endRow - firstRow) * TILE_HEIGHT;
         }
 
-        System.out.println("Images read: " + i);
-    }
+        g.setColor(getBackground());
+        g.fillRect(x, y, w, h);
 
-    /** This method reads the filenames of a plant image source folder and
-     *  stores them as plant names.
-     *
-     * @param files the files to be read
-     */
-    public void readPlantNames(File[] files) {
-        int i = 0;
-        String name;
-
-        for (File f : files) {
-            try {
-                name = f.getName();
-                plantNames[i] = name.substring(0,name.lastIndexOf("."));
-                i++;
-            } catch (Exception e) {
-                System.out.println(e.getMessage());
+        if (background != null)
+            g.drawImage(background, x, y, x + w, y + h, x, y, x + w, y + h, null);
+
+        if (x == 0 && y == 0 && seedSlotImg != null)
+            g.drawImage(sprites.get(seedSlotImg, (int)(seedSlotImg.getIconWidth()*0.8), (int)(seedSlotImg.getIconHeight()*0.8)), 10, 10, null);
+
+        for (i = firstRow; i < endRow; i++) {
+            for (j = firstCol; j < endCol; j++) {
+                target = tileGameImages[i][j];
+                if (target != null)
+                    g.drawImage(sprites.get(target.getImageIcon(), TILE_WIDTH, TILE_HEIGHT), (int)target.getPixelX(), (int)target.getPixelY(), null);
             }
         }
     }
@@ -230,29 +264,22 @@ public class LawnPanel extends JPanel {
      *
      * @param plants the plants to be represented as draggable objects
      */
-    public void initializeSeedPackets(Plant[] plants) {
+    public void initializeSeedPackets(PlantType[] plants) {
         int i;
         int x = 22, y = 75;
         ImageIcon found;
-        String name;
 
         for (i = 0; i < plants.length; i++) {
-            name = plants[i].getName();
-            found = seedPacketsImgResources[findSeedPacket(name)];
-            seedPackets[i] = new Draggable(name, found, x, y);
+            found = assets.getSeedPacket(plants[i]);
+            seedPackets[i] = new Draggable(plants[i].getName(), found, x, y);
             seedPackets[i].setBounds(0,0,getWidth(),getHeight());
             dragArea.add(seedPackets[i]);
             y += 65;
         }
 
-        try {
-            ImageIcon shovel = new ImageIcon(getClass().getResource("/img/lawn/draggable/shovel.png"));
-            shovelDraggable = new Draggable("Shovel", shovel,50, 475);
-            shovelDraggable.setBounds(0,0,getWidth(),getHeight());
-            dragArea.add(shovelDraggable);
-        } catch (Exception e) {
-            System.out.println(e.getMessage());
-        }
+        shovelDraggable = new Draggable("Shovel", assets.get(Asset.SHOVEL),50, 475);
+        shovelDraggable.setBounds(0,0,getWidth(),getHeight());
+        dragArea.add(shovelDraggable);
 
         System.out.println();
         System.out.println(seedPackets.length);
@@ -266,25 +293,6 @@ public class LawnPanel extends JPanel {
         }
     }
 
-    /** This method searches for the given name inside the initialized
-     *  plant names that could be used as a name of the draggable object.
-     *
-     * @param name the name of the plant to be searched
-     * @return the index of the found plant name
-     */
-    public int findSeedPacket(String name) {
-        int i;
-        int found = -1;
-
-        for (i = 0; i < plantNames.length && found == -1; i++)
-            if (name.equalsIgnoreCase(plantNames[i])) {
-                System.out.println(i + ") Found " + plantNames[i]);
-                found = i;
-            }
-
-        return found;
-    }
-
     /** This method is responsible for adding all the components needed
      *  to be rendered in the Lawn Panel.
      *
@@ -322,7 +330,49 @@ public class LawnPanel extends JPanel {
      * @param sun the current amount of sun
      */
     public void updateSunCount(int sun) {
-        sunCount.setText(Integer.toString(sun));
+        sunAmount = sun;
+
+        if (canvas == null)
+            sunCount.setText(Integer.toString(sun));
+    }
+
+    /** This method starts drawing the lawn on the canvas, if the lawn
+     *  is actively rendered.
+     *
+     * @param task the task updating the sprites before each frame
+     */
+    public void startRendering(Runnable task) {
+        if (canvas != null) {
+            canvas.setFrameTask(task);
+            canvas.startRendering();
+        }
+    }
+
+    /** This method stops drawing the lawn on the canvas, if the lawn
+     *  is actively rendered. Once it returns, the sprites are no longer
+     *  being read by the render thread.
+     *
+     */
+    public void stopRendering() {
+        if (canvas != null)
+            canvas.stopRendering();
+    }
+
+    /** This method checks if the lawn is drawn by a canvas with its own
+     *  render thread.
+     *
+     * @return true if the lawn is actively rendered, false otherwise
+     */
+    public boolean isActivelyRendered() {
+        return canvas != null;
+    }
+
+    /** This method returns the canvas the lawn is actively rendered on.
+     *
+     * @return the canvas of the lawn, or null if Swing draws the lawn
+     */
+    public LawnCanvas getCanvas() {
+        return canvas;
     }
 
     /** This method clears all entity, game element and draggable object
@@ -331,9 +381,9 @@ public class LawnPanel extends JPanel {
      */
     public void clearImages() {
         dragArea.removeAll();
-        zombieGameImages.clear();
-        sunGameImages.clear();
-        projectileGameImages.clear();
+        zombieSprites.clear();
+        sunSprites.clear();
+        projectileSprites.clear();
 
         int i, j;
         for (i = 0; i < seedPackets.length; i++)
@@ -344,17 +394,6 @@ public class LawnPanel extends JPanel {
                 tileGameImages[i][j] = null;
     }
 
-    /** This method adds an image into the arraylist of zombie images
-     *  to be rendered
-     *
-     * @param image the image to be added for rendering
-     */
-    public void addZombieImage(GameImage image)
-    {
-        zombieGameImages.add(image);
-        System.out.println("Added zombie image!");
-    }
-
     /** This method adds an image into the array of tile images
      *  to be rendered
      *
@@ -369,30 +408,12 @@ public class LawnPanel extends JPanel {
         System.out.println("Added plant image!");
     }
 
-    /** This method adds a sun image into the arraylist of sun images
-     *  to be rendered
-     *
-     * @param image the sun image to be added
-     */
-    public void addSunImage(GameImage image) {
-        sunGameImages.add(image);
-    }
-
-    /** This method adds a projectile image into the arraylist of projectile images
-     *  to be rendered
+    /** This method gets all zombie sprites to be rendered.
      *
-     * @param image the projectile image to be rendered
+     * @return the zombie sprites to be rendered, by zombie ID
      */
-    public void addProjectileImage(GameImage image) {
-        projectileGameImages.add(image);
-    }
-
-    /** This method gets all zombie images to be rendered.
-     *
-     * @return the arraylist of zombie images to be rendered
-     */
-    public ArrayList<GameImage> getZombieGameImages() {
-        return zombieGameImages;
+    public SpriteMap getZombieSprites() {
+        return zombieSprites;
     }
 
     /** This method gets all tile images to be rendered.
@@ -403,20 +424,20 @@ public class LawnPanel extends JPanel {
         return tileGameImages;
     }
 
-    /** This method gets all sun images to be rendered
+    /** This method gets all sun sprites to be rendered
      *
-     * @return all sun images to be rendered
+     * @return all sun sprites to be rendered, by sun ID
      */
-    public ArrayList<GameImage> getSunGameImages() {
-        return sunGameImages;
+    public SpriteMap getSunSprites() {
+        return sunSprites;
     }
 
-    /** This method gets all projectile images to be rendered
+    /** This method gets all projectile sprites to be rendered
      *
-     * @return all projectile images to be rendered
+     * @return all projectile sprites to be rendered, by projectile ID
      */
-    public ArrayList<GameImage> getProjectileGameImages() {
-        return projectileGameImages;
+    public SpriteMap getProjectileSprites() {
+        return projectileSprites;
     }
 
     /** This method returns all draggable seed packets present in the lawn.
@@ -435,48 +456,12 @@ public class LawnPanel extends JPanel {
         return shovelDraggable;
     }
 
-    /** This method returns the list of plant names read by the
-     *  readPlantNames() method.
-     *
-     * @return the array of plant names read
-     */
-    public String[] getPlantNames() {
-        return plantNames;
-    }
-
-    /** This method gets the array of plant image resources to be used
-     *
-     * @return the array of plant image resources
-     */
-    public ImageIcon[] getPlantsImgResources()
-    {
-        return plantsImgResources;
-    }
-
-    /** This method gets the array of zombie image resources to be used
-     *
-     * @return the array of zombie image resources
-     */
-    public ImageIcon[] getZombiesImgResources()
-    {
-        return zombiesImgResources;
-    }
-
-    /** This method gets the image resources for game elements.
-     *
-     * @return the array of image resources for game elements
-     */
-    public ImageIcon[] getGameElementsImgResources()
-    {
-        return gameElementsImgResources;
-    }
-
-    /** This method gets the image resources for plant states.
+    /** This method returns the loaded images of the game.
      *
-     * @return the array of image resources for plant states
+     * @return the loaded images of the game
      */
-    public ImageIcon[] getPlantStateImgResources() {
-        return  plantStateImgResources;
+    public AssetManager getAssets() {
+        return assets;
     }
 
     /** This method gets the width of the lawn area.
@@ -563,26 +548,26 @@ public class LawnPanel extends JPanel {
     private JLabel sunCount;
     /** the tiles to be rendered*/
     private GameImage[][] tileGameImages;
-    /** the zombies to be rendered*/
-    private ArrayList<GameImage> zombieGameImages;
-    /**the sun elements to be rendered*/
-    private ArrayList<GameImage> sunGameImages;
-    /** the projectile elements to be rendered*/
-    private ArrayList<GameImage> projectileGameImages;
+    /** the zombies to be rendered, by zombie ID*/
+    private SpriteMap zombieSprites;
+    /**the sun elements to be rendered, by sun ID*/
+    private SpriteMap sunSprites;
+    /** the projectile elements to be rendered, by projectile ID*/
+    private SpriteMap projectileSprites;
     /** the draggable seed packets to be used*/
     private Draggable[] seedPackets;
     /** the shovel draggable to be used*/
     private Draggable shovelDraggable;
-    /** the image resources for plants*/
-    private ImageIcon[] plantsImgResources;
-    /**the image resources for zombies*/
-    private ImageIcon[] zombiesImgResources;
-    /**the image resources for game elements*/
-    private ImageIcon[] gameElementsImgResources;
-    /**the image resources for seed packets*/
-    private ImageIcon[] seedPacketsImgResources;
-    /** the image resources for plant states*/
-    private ImageIcon[] plantStateImgResources;
-    /**the names of plants to be represented in a draggable object*/
-    private String[] plantNames;
+    /** the loaded images of the game*/
+    private AssetManager assets;
+    /** the sprites scaled to the size they are drawn at*/
+    private SpriteCache sprites;
+    /** the background, seed slot and plants drawn in the screen's memory*/
+    private VolatileImage staticLayer;
+    /** the tile sprites currently drawn in the static layer*/
+    private GameImage[][] layeredTiles;
+    /** the canvas the lawn is actively rendered on*/
+    private LawnCanvas canvas;
+    /** the amount of suns of the player*/
+    private int sunAmount;
 }
\ No newline at end of file
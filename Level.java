@@ -1,6 +1,7 @@
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.lang.Math;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * This class represents the core game logic
@@ -26,8 +27,11 @@ abstract class Level {
      * @param r maximum number of rows in game grid
      * @param c maximum number of columns in game grid
      * @param curTime starting time of the game 
+     * @param seed the seed of the level's random streams
      */
-    public Level(int n, int t, int r, int c, int curTime) {
+    public Level(int n, int t, int r, int c, int curTime, long seed) {
+        int i;
+
         // initialize basic attributes
         LEVEL_NUM = n;
         TIME_LENGTH = t;
@@ -36,27 +40,62 @@ abstract class Level {
 
         // initialize empty entities and game elements
         tiles = new Entity[r][c];
+        tilePositions = new int[r][c];
+        plantOccupancy = new PlantOccupancy(r, c);
+        plants = new ArrayList<>();
+        tombstones = new ArrayList<>();
+        deadEntities = new ArrayList<>();
+        minZombieCol = Float.MAX_VALUE;
         enemies = new ArrayList<>();
+        zombieIndex = new ZombieIndex(r);
         suns = new ArrayList<>();
-        peas = new ArrayList<>();
+        peas = new ProjectileLanes(r, LANE_CAPACITY);
+        zombiePools = new ArrayList<>();
+        for (i = 0; i < Zombie.KINDS; i++)
+            zombiePools.add(new ObjectPool<>(16));
+        peaPool = new ObjectPool<>(32);
+        slowPeaPool = new ObjectPool<>(32);
+        sunPool = new ObjectPool<>(16);
+        ids = new EntityIds();
+        despawned = new int[16];
+        despawnedCount = 0;
+        recordingDespawns = false;
 
         // initialize timers
         internal_start = curTime;
         sun_interval = curTime;
         endFlag = false;
+        logging = true;
+
+        // initialize the random streams of this level only
+        random = new LevelRandom(seed);
+        zombiesKilled = 0;
+        zombiesSpawned = 0;
     }
 
     /** This method initializes the available plants' cooldowns to be used in the game.
+     *  The plants are looked up in the plant registry of the game by name.
      *
-     * @param p the available plants that will be initialized
+     * @param names the names of the available plants that will be initialized
+     * @throws IllegalArgumentException if a plant is not in the registry
      */
-    public void initializePlants(Plant[] p) {
+    public void initializePlants(String[] names) {
         int i;
-        avaliable_plants = p;
+        PlantRegistry registry = PlantRegistry.getDefault();
+
+        avaliable_plants = new PlantType[names.length];
+        cooldowns = new Cooldown[names.length];
+        plantSlots = new int[registry.size()];
+        Arrays.fill(plantSlots, -1);
+
+        for (i = 0; i < names.length; i++) {
+            avaliable_plants[i] = registry.get(names[i]);
+            if (avaliable_plants[i] == null)
+                throw new IllegalArgumentException("Unknown plant: " + names[i]);
 
-        cooldowns = new Cooldown[avaliable_plants.length];
-        for (i = 0; i < avaliable_plants.length; i++)
             cooldowns[i] = new Cooldown(avaliable_plants[i].getName(), avaliable_plants[i].getCooldown());
+            plantSlots[avaliable_plants[i].getId()] = i;
+        }
     }
 
     /**
@@ -74,7 +113,7 @@ abstract class Level {
      * This method returns the game's time
      * limit. 
      * 
-     * @return the time limit of the entire game 
+     * @return the time limit of the entire game in seconds
      */
     public int getTIME_LENGTH() {
         return TIME_LENGTH;
@@ -132,37 +171,185 @@ abstract class Level {
         return enemies;
     }
 
+    /** This method returns the bitmasks of the tiles holding a plant.
+     *
+     * @return the plant occupancy of the level
+     */
+    public PlantOccupancy getPlantOccupancy() {
+        return plantOccupancy;
+    }
+
+    /** This method places a plant into its tile of the level.
+     *
+     * @param p the plant to be placed
+     */
+    public void addPlant(Plant p) {
+        int row = (int)p.getRow(), col = (int)p.getCol();
+
+        tiles[row][col] = p;
+        plantOccupancy.set(row, col);
+        tilePositions[row][col] = plants.size();
+        plants.add(p);
+    }
+
+    /** This method places a tombstone into its tile of the level.
+     *
+     * @param t the tombstone to be placed
+     */
+    public void addTombstone(Tombstone t) {
+        tiles[(int)t.getRow()][(int)t.getCol()] = t;
+        tilePositions[(int)t.getRow()][(int)t.getCol()] = tombstones.size();
+        tombstones.add(t);
+    }
+
+    /** This method removes whatever is placed in a tile of the level.
+     *  The last plant or tombstone is moved into the place of the removed
+     *  one, so the lists are never searched or shifted.
+     *
+     * @param row the row of the tile
+     * @param col the col of the tile
+     */
+    public void removeTile(int row, int col) {
+        if (tiles[row][col] instanceof Plant)
+            removeAt(plants, tilePositions[row][col]);
+        else if (tiles[row][col] instanceof Tombstone)
+            removeAt(tombstones, tilePositions[row][col]);
+
+        tiles[row][col] = null;
+        plantOccupancy.clear(row, col);
+    }
+
+    /** This method removes the plant or tombstone at a position of its
+     *  list by moving the last one of the list into its place.
+     *
+     * @param list the list holding the plant or tombstone
+     * @param position the position of the plant or tombstone to be removed
+     */
+    private <T extends Entity> void removeAt(ArrayList<T> list, int position) {
+        T last = list.remove(list.size() - 1);
+
+        if (position < list.size()) {
+            list.set(position, last);
+            tilePositions[(int)last.getRow()][(int)last.getCol()] = position;
+        }
+    }
+
+    /** This method queues an entity whose health has reached 0 so
+     *  that it is removed at the end of the current cycle.
+     *
+     * @param e the dead entity
+     */
+    public void markDead(Entity e) {
+        deadEntities.add(e);
+    }
+
+    /** This method returns the plants currently placed in the level.
+     *
+     * @return the list of placed plants
+     */
+    public ArrayList<Plant> getPlants() {
+        return plants;
+    }
+
+    /** This method returns the tombstones currently placed in the level.
+     *
+     * @return the list of placed tombstones
+     */
+    public ArrayList<Tombstone> getTombstones() {
+        return tombstones;
+    }
+
+    /** This method returns the zombies of the level sorted by
+     *  column within each row.
+     *
+     * @return the zombie index of the level
+     */
+    public ZombieIndex getZombieIndex() {
+        return zombieIndex;
+    }
+
+    /** This method adds a zombie into the level.
+     *
+     * @param z the zombie to be added
+     */
+    public void addZombie(Zombie z) {
+        z.setId(ids.allocate());
+        z.setSpawnOrder(zombiesSpawned++);
+        enemies.add(z);
+        zombieIndex.add(z);
+    }
+
+    /** This method removes a zombie from the level.
+     *
+     * @param i the index of the zombie in the list of enemies
+     * @return the removed zombie
+     */
+    public Zombie removeZombie(int i) {
+        Zombie z = enemies.remove(i);
+
+        despawn(z.getId());
+        z.setId(EntityIds.NONE);
+        return z;
+    }
+
     /**
      * This method returns the available plant types
      * of the game (e.g., Sunflower, Peashooter, etc)
      * 
-     * @return array of Plant objects that contains the available
+     * @return array of PlantType objects that contains the available
      * plant types of the game
      */
-    public Plant[] getAvaliable_plants() {
+    public PlantType[] getAvaliable_plants() {
         return avaliable_plants;
     }
 
+    /**
+     * This method returns the cooldowns of the available plant
+     * types, in the same order as the available plants.
+     *
+     * @return the cooldowns of the available plants
+     */
+    public Cooldown[] getCooldowns() {
+        return cooldowns;
+    }
+
+    /**
+     * This method returns the position of a plant type among
+     * the game's available plant types.
+     *
+     * @param type the plant type
+     * @return the position of the plant type, or -1 if it is not available
+     */
+    public int getPlantSlot(PlantType type) {
+        if (type == null || type.getId() >= plantSlots.length)
+            return -1;
+
+        return plantSlots[type.getId()];
+    }
+
+    /**
+     * This method returns the Cooldown object of an available
+     * plant type.
+     *
+     * @param type the plant type
+     * @return cooldown of the plant type, or null if it is not available
+     */
+    public Cooldown getCooldown(PlantType type) {
+        int slot = getPlantSlot(type);
+
+        return slot >= 0 ? cooldowns[slot] : null;
+    }
+
     /**
      * This method checks the given plant type among 
      * the game's available plant types. Once the plant type is 
      * found, it returns its respective Cooldown object. 
      * 
      * @param n name/type of plant object
-     * @return cooldown of located plant object 
+     * @return cooldown of located plant object, or null if it is not available
      */
     public Cooldown getCooldown(String n) {
-        int i = 0;
-        int found = -1;
-
-        while (i < cooldowns.length && found == -1) {
-            if (cooldowns[i].getPlantType().equalsIgnoreCase(n))
-                found = i;
-            else
-                i++;
-        }
-
-        return cooldowns[found];
+        return getCooldown(PlantRegistry.getDefault().get(n));
     }
 
     /**
@@ -176,15 +363,134 @@ abstract class Level {
         return suns;
     }
 
-    /** This method returns the game's array list of
-     *  Projectile objects.
+    /** This method returns the projectiles of the game
+     *  stored by row.
      *
-     * @return the arraylist of Projectile objects
+     * @return the projectiles of each row
      */
-    public ArrayList<Projectile> getPeas() {
+    public ProjectileLanes getPeas() {
         return peas;
     }
 
+    /** This method returns the amount of suns the player
+     *  starts the level with.
+     *
+     * @return the starting amount of suns of the level
+     */
+    public int getStartingSun() {
+        if (LEVEL_NUM == 2)
+            return 150;
+        else if (LEVEL_NUM == 3)
+            return 200;
+        else
+            return 100;
+    }
+
+    /** This method checks if the level prints its progress
+     *  to the console.
+     *
+     * @return true if the level prints its progress, false otherwise
+     */
+    public boolean isLogging() {
+        return logging;
+    }
+
+    /** This method sets whether the level prints its progress
+     *  to the console.
+     *
+     * @param b the logging status of the level
+     */
+    public void setLogging(boolean b) {
+        logging = b;
+    }
+
+    /** This method sets whether the level keeps a list of the IDs it
+     *  has despawned, which is only needed when a GUI is drawing it.
+     *
+     * @param b true if despawns are to be recorded, false otherwise
+     */
+    public void setRecordingDespawns(boolean b) {
+        recordingDespawns = b;
+        despawnedCount = 0;
+    }
+
+    /** This method returns the number of IDs despawned since the list
+     *  of despawns was last cleared.
+     *
+     * @return the number of despawned IDs
+     */
+    public int getDespawnedCount() {
+        return despawnedCount;
+    }
+
+    /** This method returns one of the despawned IDs.
+     *
+     * @param i the index of the despawn, from 0 to getDespawnedCount() - 1
+     * @return the despawned ID
+     */
+    public int getDespawned(int i) {
+        return despawned[i];
+    }
+
+    /** This method clears the list of despawned IDs.
+     *
+     */
+    public void clearDespawned() {
+        despawnedCount = 0;
+    }
+
+    /** This method frees the ID of a zombie, projectile or sun that has
+     *  been removed, and records it if despawns are being recorded.
+     *
+     * @param id the ID of what was removed
+     */
+    private void despawn(int id) {
+        ids.release(id);
+
+        if (recordingDespawns) {
+            if (despawnedCount == despawned.length)
+                despawned = Arrays.copyOf(despawned, despawnedCount * 2);
+
+            despawned[despawnedCount++] = id;
+        }
+    }
+
+    /** This method returns one of the random streams of the level.
+     *  Every random decision of the level is drawn from its own stream, so two
+     *  levels created with the same seed and given the same input play out the same.
+     *
+     * @param stream the stream to be returned, such as LevelRandom.ZOMBIE_LANES
+     * @return the random number generator of the stream
+     */
+    public SplittableRandom getRandom(int stream) {
+        return random.get(stream);
+    }
+
+    /** This method returns the seed of the level's random streams.
+     *
+     * @return the seed of the level
+     */
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    /** This method returns the number of zombies that have been
+     *  killed and removed from the level.
+     *
+     * @return the number of zombies killed
+     */
+    public int getZombiesKilled() {
+        return zombiesKilled;
+    }
+
+    /** This method records that a dead zombie has been removed
+     *  from the level.
+     *
+     */
+    public void countKill() {
+        zombiesKilled++;
+    }
+
     /**
      * This method updates the number of unclaimed suns
      * by the player. 
@@ -226,13 +532,13 @@ abstract class Level {
      * array list is empty) or if a certain amount of
      * time has passed.
      *
-     * @param time the current time
+     * @param time the current time in milliseconds
      * @return true if there are no enemies left
      * or if the current time has reached the time
      * limit, false otherwise.
      */
     public boolean isGameWon(int time) {
-        return (time >= (int)Math.ceil(TIME_LENGTH * 0.94) && enemies.isEmpty()) || time >= TIME_LENGTH;
+        return (time >= (int)Math.ceil(TIME_LENGTH * 0.94) * SimulationClock.SECOND && enemies.isEmpty()) || time >= TIME_LENGTH * SimulationClock.SECOND;
     }
 
     /**
@@ -245,49 +551,87 @@ abstract class Level {
      * false otherwise.
      */
     public boolean isGameOver() {
-        int i = 0;
-        boolean condition = false;
-
-        //if there is at least 1 zombie still alive
-        if (!enemies.isEmpty()) { 
-            //go through each enemy from the list
-            while (i < enemies.size() && !condition) { 
-                //check if at least one of them has reached tehe house, indicating that
-                //the game is over
-                if (enemies.get(i).isAtHouse()) 
-                    condition = true;
-
-                i++;
-            }
-        }
-
-        return condition;
+        // the rearmost column any zombie has reached is tracked while the zombies move
+        return minZombieCol <= -1;
     }
 
     /**
      * This method spawns a new zombie at a random row
      * and in the rightmost column. It is then added
-     * to the enemies array list.
+     * to the level.
      *
      * @param currentTime the current time frame of the game
      */
     public void spawnZombies(int currentTime) {
-        enemies.add(new Zombie((int)(Math.floor(Math.random() * ROWS)), COLUMNS + 1, currentTime));
+        addZombie(obtainZombie(Zombie.BASIC, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(ROWS), COLUMNS + 1, currentTime));
     }
 
-    /** This method searches for entities
-     * that have a health of 0, and removes
-     * them from the game.
+    /** This method removes the entities that have
+     * reached a health of 0 during this cycle
+     * from the game.
      *
      */
     public void despawn() {
-        int i, j;
+        int i, row, col;
+        Entity e;
+
+        // remove dead plants, skipping any that were already shoveled or queued twice
+        for (i = 0; i < deadEntities.size(); i++) {
+            e = deadEntities.get(i);
+            row = (int)e.getRow();
+            col = (int)e.getCol();
+
+            if (tiles[row][col] == e)
+                removeTile(row, col);
+        }
+
+        deadEntities.clear();
+    }
+
+    /** This method removes dead zombies, inactive projectiles
+     *  and inactive suns from the level and returns them to their
+     *  pools. This is called by the thread running the level after
+     *  every cycle.
+     *
+     * @return the number of dead zombies removed
+     */
+    public int pruneInactive() {
+        int i, row;
+        int removed = 0;
+        Zombie z;
+        Projectile p;
+        Sun s;
+
+        for (i = enemies.size() - 1; i >= 0; i--)
+            if (!enemies.get(i).isAlive()) {
+                z = removeZombie(i);
+                zombiePools.get(z.getKind()).release(z);
+                countKill();
+                removed++;
+            }
+
+        for (row = 0; row < ROWS; row++)
+            for (i = peas.getCount(row) - 1; i >= 0; i--)
+                if (!peas.get(row, i).isActive()) {
+                    p = peas.remove(row, i);
+                    despawn(p.getId());
+                    p.setId(EntityIds.NONE);
+
+                    if (p instanceof SlownessProjectile)
+                        slowPeaPool.release(p);
+                    else
+                        peaPool.release(p);
+                }
 
-        // remove dead plants
-        for (i = 0; i < ROWS; i++)
-            for (j = 0; j < COLUMNS; j++)
-                if (tiles[i][j] != null && tiles[i][j].getHealth() == 0)
-                    tiles[i][j] = null;
+        for (i = suns.size() - 1; i >= 0; i--)
+            if (!suns.get(i).isActive()) {
+                s = suns.remove(i);
+                despawn(s.getId());
+                s.setId(EntityIds.NONE);
+                sunPool.release(s);
+            }
+
+        return removed;
     }
 
     /**
@@ -298,28 +642,31 @@ abstract class Level {
      * @param currentTime the current time of the game 
      */
     public void behaviors(int currentTime) {
-        int i, j;
-        Plant p;
+        int i, row;
+        float min = Float.MAX_VALUE;
+
+        //calls zombie behavior and keeps track of the rearmost zombie
+        for (i = 0; i < enemies.size(); i++) {
+            enemies.get(i).behaviour(this, currentTime);
+            min = Math.min(min, enemies.get(i).getCol());
+        }
+        minZombieCol = min;
 
-        //calls zombie behavior
-        for (i = 0; i < enemies.size(); i++)
-            enemies.get(i).behaviour(tiles[(int)enemies.get(i).getRow()], currentTime);
+        // sort the zombies again now that they have moved
+        zombieIndex.update();
 
         //calls plant behavior
-        for (i = 0; i < ROWS; i++)
-            for (j = 0; j < COLUMNS; j++)
-                if (tiles[i][j] != null && tiles[i][j] instanceof Plant) {
-                    p = (Plant) tiles[i][j];
-                    p.plantBehavior(this, currentTime);
-                }
+        for (i = 0; i < plants.size(); i++)
+            plants.get(i).plantBehavior(this, currentTime);
 
         // updates sun objects
         for (i = 0; i < suns.size(); i++)
             suns.get(i).update(currentTime);
 
-        // updates pea objects
-        for (i = 0; i < peas.size(); i++)
-            peas.get(i).update(getEnemies(), currentTime);
+        // updates pea objects row by row
+        for (row = 0; row < ROWS; row++)
+            for (i = 0; i < peas.getCount(row); i++)
+                peas.get(row, i).update(this, currentTime);
     }
 
     /**
@@ -329,50 +676,50 @@ abstract class Level {
      * will be spawned in the game. 
      * 
      * 
-     * @param currentTime the current time of the game
+     * @param currentTime the current time of the game in milliseconds
      */
     public void gameCycle(int currentTime) {
         int interval = 0;
+        int seconds = currentTime / SimulationClock.SECOND;
         int i,j;
 
         //System.out.println(currentTime == lastPrint);
 
-        if (currentTime != lastPrint) {
-            System.out.println("Level " + LEVEL_NUM + " running: " + (currentTime));
-            lastPrint = currentTime;
+        if (logging && seconds != lastPrint) {
+            System.out.println("Level " + LEVEL_NUM + " running: " + seconds);
+            lastPrint = seconds;
         }
 
         behaviors(currentTime);
 
-        //determines how frequent zombies will spawn in the game, with respect to the game's current time
-        if (currentTime >= (int)Math.floor(TIME_LENGTH * 0.17) && currentTime <= (int)Math.floor(TIME_LENGTH * 0.445))
+        //determines how frequent zombies will spawn in the game, with respect to the game's current second
+        if (seconds >= (int)Math.floor(TIME_LENGTH * 0.17) && seconds <= (int)Math.floor(TIME_LENGTH * 0.445))
             interval = 10; //1 zombie every 10 seconds
-        else if (currentTime >= (int)Math.floor(TIME_LENGTH * 0.45) && currentTime <= (int)Math.floor(TIME_LENGTH * 0.78))
+        else if (seconds >= (int)Math.floor(TIME_LENGTH * 0.45) && seconds <= (int)Math.floor(TIME_LENGTH * 0.78))
             interval = 5; //1 zombie every 5 seconds
-        else if (currentTime >= (int)Math.floor(TIME_LENGTH * 0.785) && currentTime <= (int)Math.floor(TIME_LENGTH * 0.945))
+        else if (seconds >= (int)Math.floor(TIME_LENGTH * 0.785) && seconds <= (int)Math.floor(TIME_LENGTH * 0.945))
             interval = 3; //1 zombie every 3 seconds
         
         //spawns the zombie based on the given interval 
         //internal_start is when the zombie was last spawned 
         //if the time in between is >= the interval, it spawns a zombie
-        if (interval != 0 && currentTime - internal_start >= interval) {
+        if (interval != 0 && currentTime - internal_start >= interval * SimulationClock.SECOND) {
             spawnZombies(currentTime);
-            System.out.println("Spawned Zombie at (" + (enemies.get(enemies.size()-1).getRow() + 1) + ", " + (enemies.get(enemies.size()-1).getCol() + 1) + ")");
+            if (logging)
+                System.out.println("Spawned Zombie at (" + (enemies.get(enemies.size()-1).getRow() + 1) + ", " + (enemies.get(enemies.size()-1).getCol() + 1) + ")");
             internal_start = currentTime;
         }
 
         // spawns the hoard of zombies
-        if (currentTime > (int)Math.floor(TIME_LENGTH * 0.945) && !endFlag) {
-            enemies.add(new FlagZombie((int)(Math.floor(Math.random() * ROWS)), COLUMNS + 1, currentTime));
+        if (seconds > (int)Math.floor(TIME_LENGTH * 0.945) && !endFlag) {
+            addZombie(obtainZombie(Zombie.FLAG, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(ROWS), COLUMNS + 1, currentTime));
 
             for (i = 0; i < 4 + 2 * (LEVEL_NUM-1); i++)
                 spawnZombies(currentTime);
 
             //spawn zombies on the gravestones
-            for (i = 0; i < ROWS; i++)
-                for (j = 0; j < COLUMNS; j++)
-                    if (tiles[i][j] != null && tiles[i][j] instanceof Tombstone)
-                        enemies.add(((Tombstone)tiles[i][j]).spawn(currentTime));
+            for (i = 0; i < tombstones.size(); i++)
+                addZombie(tombstones.get(i).spawn(this, currentTime, getRandom(LevelRandom.ZOMBIE_TYPES)));
 
             endFlag = true;
         }
@@ -380,7 +727,7 @@ abstract class Level {
         //spawns a falling sun after a 10-second interval
         //sun_interval : when the last sun was spawned
          
-        if (currentTime - sun_interval >= 10) {
+        if (currentTime - sun_interval >= 10 * SimulationClock.SECOND) {
             addSun(currentTime);
             //System.out.println("Sun appeared in (" + (suns.get(suns.size()-1).getRow()+1) + "," + (suns.get(suns.size()-1).getCol()+1) + ")");
             sun_interval = currentTime;
@@ -393,6 +740,94 @@ abstract class Level {
         //  System.out.println("Spawn rate: 1 zombie every " + interval + " seconds" );
     }
 
+    /**
+     * This method finds the earliest time a game cycle can change the
+     * level, given that nothing else changes it first. Every timer of
+     * the level is checked, such as the steps and bites of the zombies,
+     * the shots and suns of the plants, the suns expiring, the zombies
+     * being defrosted and the zombies and suns being spawned. The cycles
+     * before this time can be skipped, since they would do nothing.
+     * Whatever already can act is due right away.
+     *
+     * @param currentTime the time of the last game cycle
+     * @return the earliest time the level can change
+     */
+    public int getNextEventTime(int currentTime) {
+        int i, row;
+        int next;
+        int won = (int)Math.ceil(TIME_LENGTH * 0.94) * SimulationClock.SECOND;
+
+        // the plants and projectiles only see that a zombie has died once the zombies are sorted again
+        if (!zombieIndex.isUpToDate())
+            return currentTime;
+
+        next = Math.min(getNextSpawnTime(currentTime), sun_interval + 10 * SimulationClock.SECOND);
+
+        for (i = 0; i < enemies.size(); i++) {
+            next = Math.min(next, enemies.get(i).getNextActionTime(this, currentTime));
+            next = Math.min(next, enemies.get(i).getDefrostTime());
+        }
+
+        for (i = 0; i < plants.size(); i++)
+            next = Math.min(next, plants.get(i).getNextActionTime(this, currentTime));
+
+        for (i = 0; i < suns.size(); i++)
+            next = Math.min(next, suns.get(i).getNextActionTime(currentTime));
+
+        for (row = 0; row < ROWS; row++)
+            for (i = 0; i < peas.getCount(row); i++)
+                next = Math.min(next, peas.get(row, i).getNextActionTime(this, currentTime));
+
+        // the level can be won once these times are reached
+        if (won > currentTime)
+            next = Math.min(next, won);
+        next = Math.min(next, TIME_LENGTH * SimulationClock.SECOND);
+
+        if (logging)
+            next = Math.min(next, (currentTime / SimulationClock.SECOND + 1) * SimulationClock.SECOND);
+
+        return next;
+    }
+
+    /**
+     * This method finds the time the next zombie is spawned after the
+     * given time, following the spawn rates of gameCycle.
+     *
+     * @param currentTime the time of the last game cycle
+     * @return the time of the next zombie spawn
+     */
+    private int getNextSpawnTime(int currentTime) {
+        int next = Integer.MAX_VALUE;
+
+        next = Math.min(next, getNextSpawnTime(currentTime, (int)Math.floor(TIME_LENGTH * 0.17), (int)Math.floor(TIME_LENGTH * 0.445), 10));
+        next = Math.min(next, getNextSpawnTime(currentTime, (int)Math.floor(TIME_LENGTH * 0.45), (int)Math.floor(TIME_LENGTH * 0.78), 5));
+        next = Math.min(next, getNextSpawnTime(currentTime, (int)Math.floor(TIME_LENGTH * 0.785), (int)Math.floor(TIME_LENGTH * 0.945), 3));
+
+        // the hoard is spawned the second after the last spawn rate ends
+        if (!endFlag)
+            next = Math.min(next, ((int)Math.floor(TIME_LENGTH * 0.945) + 1) * SimulationClock.SECOND);
+
+        return next;
+    }
+
+    /**
+     * This method finds the time the next zombie is spawned within
+     * one spawn rate of the level.
+     *
+     * @param currentTime the time of the last game cycle
+     * @param first the first second of the spawn rate
+     * @param last the last second of the spawn rate
+     * @param interval the number of seconds between two zombies
+     * @return the time of the next zombie spawn, or Integer.MAX_VALUE if there is none
+     */
+    private int getNextSpawnTime(int currentTime, int first, int last, int interval) {
+        int time = Math.max(internal_start + interval * SimulationClock.SECOND, first * SimulationClock.SECOND);
+
+        time = Math.max(time, currentTime + 1);
+
+        return time < (last + 1) * SimulationClock.SECOND ? time : Integer.MAX_VALUE;
+    }
+
     /**
      * This method allows a sun to be spawned randomly
      * within the game, adding it to the player's unclaimed
@@ -402,13 +837,113 @@ abstract class Level {
      */
     public void addSun(int currentTime)
     {
-        Random random = new Random();
+        SplittableRandom positions = getRandom(LevelRandom.SUN_POSITIONS);
 
         //randomize the column/row position
-        suns.add(new Sun(random.nextInt(ROWS), random.nextInt(COLUMNS), currentTime));
+        produceSun(positions.nextInt(ROWS), positions.nextInt(COLUMNS), currentTime);
         unclaimed_suns += suns.get(suns.size()-1).getAmount();
     }
 
+    /**
+     * This method places a sun into the level, reusing
+     * a collected or expired sun if there is one.
+     *
+     * @param row the row coordinate of the sun
+     * @param col the col coordinate of the sun
+     * @param currentTime the current time of the game
+     */
+    public void produceSun(float row, float col, int currentTime)
+    {
+        Sun s = sunPool.obtain();
+
+        if (s == null)
+            s = new Sun(row, col, currentTime);
+        else
+            s.reset(row, col, currentTime);
+
+        s.setId(ids.allocate());
+        suns.add(s);
+    }
+
+    /**
+     * This method fires a projectile into the level, reusing
+     * a projectile that has already hit if there is one.
+     *
+     * @param row the row position of the projectile
+     * @param col the column position of the projectile
+     * @param currentTime the current time of the game
+     * @param dmg the damage the projectile deals
+     * @param speed the speed of the projectile
+     */
+    public void fireProjectile(float row, float col, int currentTime, int dmg, float speed)
+    {
+        Projectile p;
+
+        // a full row drops the shot instead of growing
+        if (peas.isFull((int)row))
+            return;
+
+        p = peaPool.obtain();
+        if (p == null)
+            p = new Projectile(row, col, currentTime, dmg, speed);
+        else
+            p.reset(row, col, currentTime, dmg, speed);
+
+        p.setId(ids.allocate());
+        peas.add(p);
+    }
+
+    /**
+     * This method fires a slowness projectile into the level, reusing
+     * a slowness projectile that has already hit if there is one.
+     *
+     * @param row the row position of the projectile
+     * @param col the column position of the projectile
+     * @param currentTime the current time of the game
+     * @param dmg the damage the projectile deals
+     * @param speed the speed of the projectile
+     */
+    public void fireSlownessProjectile(float row, float col, int currentTime, int dmg, float speed)
+    {
+        Projectile p;
+
+        // a full row drops the shot instead of growing
+        if (peas.isFull((int)row))
+            return;
+
+        p = slowPeaPool.obtain();
+        if (p == null)
+            p = new SlownessProjectile(row, col, currentTime, dmg, speed);
+        else
+            p.reset(row, col, currentTime, dmg, speed);
+
+        p.setId(ids.allocate());
+        peas.add(p);
+    }
+
+    /**
+     * This method returns a zombie of the given kind that is ready
+     * to be added to the level, reusing a dead zombie if there is one.
+     *
+     * @param kind the kind of zombie, such as Zombie.CONEHEAD
+     * @param row the row of the zombie
+     * @param col the column of the zombie
+     * @param currentTime the current time of the game
+     * @return the zombie to be added
+     */
+    public Zombie obtainZombie(int kind, int row, int col, int currentTime)
+    {
+        Zombie z = zombiePools.get(kind).obtain();
+
+        if (z == null)
+            z = Zombie.create(kind, row, col, currentTime);
+        else
+            z.reset(row, col, currentTime);
+
+        return z;
+    }
+
+
     /**number of levels to track game progress */
     private final int LEVEL_NUM;
     /**time limit of game*/
@@ -419,24 +954,66 @@ abstract class Level {
     private final int COLUMNS;
     /**2d array of entity objects to be used as game grid*/
     private Entity[][] tiles;
+    /**the position of the plant or tombstone of each tile in its list*/
+    private int[][] tilePositions;
+    /**the bitmasks of the tiles holding a plant*/
+    private PlantOccupancy plantOccupancy;
+    /**the plants placed in the lawn*/
+    private ArrayList<Plant> plants;
+    /**the tombstones placed in the lawn*/
+    private ArrayList<Tombstone> tombstones;
+    /**the entities that died during the current cycle*/
+    private ArrayList<Entity> deadEntities;
+    /**the number of projectiles a row can hold, enough for a full row of shooters*/
+    public static final int LANE_CAPACITY = 96;
+    /**the dead zombies of each kind that can be reused*/
+    private ArrayList<ObjectPool<Zombie>> zombiePools;
+    /**the projectiles that can be reused*/
+    private ObjectPool<Projectile> peaPool;
+    /**the slowness projectiles that can be reused*/
+    private ObjectPool<Projectile> slowPeaPool;
+    /**the suns that can be reused*/
+    private ObjectPool<Sun> sunPool;
+    /**the IDs of the zombies, projectiles and suns*/
+    private EntityIds ids;
+    /**the IDs despawned since the list was last cleared*/
+    private int[] despawned;
+    /**the number of despawned IDs*/
+    private int despawnedCount;
+    /**dictates whether despawned IDs are recorded*/
+    private boolean recordingDespawns;
+    /**the rearmost column reached by a zombie*/
+    private float minZombieCol;
     /**array list of zombie objects */
     private ArrayList<Zombie> enemies;
+    /**the zombies sorted by column within each row*/
+    private ZombieIndex zombieIndex;
     /**current unclaimed suns*/
     private int unclaimed_suns;
     /**available plant types */
-    private Plant[] avaliable_plants;
+    private PlantType[] avaliable_plants;
+    /**the position of each plant type among the available plants, by plant type ID */
+    private int[] plantSlots;
     /**respective cooldowns of each available plant type */
     private Cooldown[] cooldowns;
     /**list of Sun objects used in the game */
     private ArrayList<Sun> suns;
     /**the projectiles present in the lawn*/
-    private ArrayList<Projectile> peas;
+    private ProjectileLanes peas;
     /**time an object has last performned an acion */
     private int internal_start;
     /**time a Sun object has last performed an action */
     private int sun_interval;
     /**dictates whether to spawn a hoard of zombie*/
     private boolean endFlag;
-    /**the time of the last printed timer message*/
+    /**the second of the last printed timer message*/
     private int lastPrint;
+    /**dictates whether the level prints its progress*/
+    private boolean logging;
+    /**the random streams of the level*/
+    private LevelRandom random;
+    /**the number of zombies killed in the level*/
+    private int zombiesKilled;
+    /**the number of zombies added to the level*/
+    private int zombiesSpawned;
 }
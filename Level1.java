@@ -13,13 +13,22 @@ public class Level1 extends Level{
      * @param currentTime the starting time frame of the level
      */
     public Level1(int currentTime) {
-        super(1,180,5,9,currentTime);
+        this(currentTime, System.nanoTime());
+    }
 
-        Plant[] p = new Plant[]{
-                new Sunflower(-1, -1, 0),
-                new Peashooter(-1, -1, 0)
-        };
+    /** This constructor initializes the level the same way as the
+     *  other constructor, but with a given seed for its random
+     *  streams so that the level can be reproduced.
+     *
+     * @param currentTime the starting time frame of the level
+     * @param seed the seed of the level's random streams
+     */
+    public Level1(int currentTime, long seed) {
+        super(1,180,5,9,currentTime,seed);
 
-        initializePlants(p);
+        initializePlants(new String[] {
+                "Sunflower",
+                "Peashooter"
+        });
     }
 }
@@ -13,28 +13,37 @@ public class Level2 extends Level{
      * @param currentTime the time of creation
      */
     public Level2(int currentTime) {
-        super(2,180,5,9,currentTime);
+        this(currentTime, System.nanoTime());
+    }
 
-        Plant[] p = new Plant[] {
-                new Sunflower(-1,-1,0),
-                new Peashooter(-1,-1,0),
-                new CherryBomb(-1,-1,0),
-                new Wallnut(-1,-1,0)
-        };
+    /** This constructor initializes the level the same way as the
+     *  other constructor, but with a given seed for its random
+     *  streams so that the level can be reproduced.
+     *
+     * @param currentTime the time of creation
+     * @param seed the seed of the level's random streams
+     */
+    public Level2(int currentTime, long seed) {
+        super(2,180,5,9,currentTime,seed);
 
-        initializePlants(p);
+        initializePlants(new String[] {
+                "Sunflower",
+                "Peashooter",
+                "Cherry Bomb",
+                "Wallnut"
+        });
     }
 
     /**
      * This method spawns a new zombie at a random row
      * and in the rightmost column. It is then added
-     * to the enemies array list.
+     * to the level.
      *
      * @param currentTime the current time frame of the level
      */
     @Override
     public void spawnZombies(int currentTime) {
-        float x = (float)Math.random();
+        float x = (float)getRandom(LevelRandom.ZOMBIE_TYPES).nextDouble();
 
         /*
             Time: Below 45% of Time limit
@@ -42,11 +51,11 @@ public class Level2 extends Level{
                 Normal Zombie: 80%
                 Conehead Zombie: 20%
          */
-        if (currentTime < (int)Math.floor(getTIME_LENGTH() * 0.45)) {
+        if (currentTime < (int)Math.floor(getTIME_LENGTH() * 0.45) * SimulationClock.SECOND) {
             if (x > .2f)
-                getEnemies().add(new Zombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.BASIC, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
             else
-                getEnemies().add(new ConeheadZombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.CONEHEAD, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
         }
         /*
             Time: 45% of Time limit and above
@@ -56,9 +65,9 @@ public class Level2 extends Level{
          */
         else {
             if (x > .4f)
-                getEnemies().add(new Zombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.BASIC, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
             else
-                getEnemies().add(new ConeheadZombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.CONEHEAD, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
         }
     }
 }
\ No newline at end of file
@@ -13,18 +13,27 @@ public class Level3 extends Level{
      * @param currentTime the starting time frame of the level
      */
     public Level3(int currentTime) {
-        super(3,180,5,9,currentTime);
+        this(currentTime, System.nanoTime());
+    }
 
-        Plant[] p = new Plant[] {
-                new Sunflower(-1,-1,0),
-                new Peashooter(-1,-1,0),
-                new CherryBomb(-1,-1,0),
-                new Wallnut(-1,-1,0),
-                new PotatoMine(-1,-1,0),
-                new SnowPea(-1,-1,0)
-        };
+    /** This constructor initializes the level the same way as the
+     *  other constructor, but with a given seed for its random
+     *  streams so that the level can be reproduced.
+     *
+     * @param currentTime the starting time frame of the level
+     * @param seed the seed of the level's random streams
+     */
+    public Level3(int currentTime, long seed) {
+        super(3,180,5,9,currentTime,seed);
 
-        initializePlants(p);
+        initializePlants(new String[] {
+                "Sunflower",
+                "Peashooter",
+                "Cherry Bomb",
+                "Wallnut",
+                "Potato Mine",
+                "Snow Pea"
+        });
         spawnGraves();
     }
 
@@ -37,11 +46,11 @@ public class Level3 extends Level{
 
         for (i = 0; i < 5; i++) {
             do {
-                nRow = (int)(Math.floor(Math.random() * getROWS()));
-                nCol = 5 + (int)(Math.floor(Math.random() * (getCOLUMNS() - 5)));
+                nRow = getRandom(LevelRandom.GRAVES).nextInt(getROWS());
+                nCol = 5 + getRandom(LevelRandom.GRAVES).nextInt(getCOLUMNS() - 5);
             } while (!canBePlaced(nRow, nCol));
 
-            getTiles()[nRow][nCol] = new Tombstone(nRow, nCol);
+            addTombstone(new Tombstone(nRow, nCol));
             //System.out.println("grave at row " + (nRow+1) + " col " + (nCol+1));
         }
     }
@@ -49,13 +58,13 @@ public class Level3 extends Level{
     /**
      * This method spawns a new zombie at a random row
      * and in the rightmost column. It is then added
-     * to the enemies array list.
+     * to the level.
      *
      * @param currentTime the current time frame of the level
      */
     @Override
     public void spawnZombies(int currentTime) {
-        float x = (float)Math.random();
+        float x = (float)getRandom(LevelRandom.ZOMBIE_TYPES).nextDouble();
 
         /*
             Time: Below 45% of Time limit
@@ -64,13 +73,13 @@ public class Level3 extends Level{
                 Conehead Zombie: 20%
                 Buckethead Zombie: 10%
          */
-        if (currentTime < (int)Math.floor(getTIME_LENGTH() * 0.45)) {
+        if (currentTime < (int)Math.floor(getTIME_LENGTH() * 0.45) * SimulationClock.SECOND) {
             if (x > .3f)
-                getEnemies().add(new Zombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.BASIC, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
             else if (x > .1f)
-                getEnemies().add(new ConeheadZombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.CONEHEAD, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
             else
-                getEnemies().add(new BucketheadZombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.BUCKETHEAD, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
         }
         /*
             Time: 45% of Time limit and above
@@ -82,13 +91,13 @@ public class Level3 extends Level{
          */
         else {
             if (x > .5f)
-                getEnemies().add(new Zombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.BASIC, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
             else if (x >= .3f)
-                getEnemies().add(new ConeheadZombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.CONEHEAD, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
             else if (x >= .15f)
-                getEnemies().add(new BucketheadZombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.BUCKETHEAD, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
             else
-                getEnemies().add(new PolevaulterZombie((int)(Math.floor(Math.random() * getROWS())), getCOLUMNS() + 1, currentTime));
+                addZombie(obtainZombie(Zombie.POLEVAULTER, getRandom(LevelRandom.ZOMBIE_LANES).nextInt(getROWS()), getCOLUMNS() + 1, currentTime));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+import java.util.SplittableRandom;
+
+/** This class represents the seeded source of randomness of a level.
+ *  It is divided into named streams that are independent from each
+ *  other, so drawing more numbers for one purpose, like an extra falling
+ *  sun, never changes the numbers drawn for another, like the lane of
+ *  the next zombie. A given seed always produces the same streams.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class LevelRandom {
+    /** This constructor initializes every stream from the given seed.
+     *  The streams are split off the root generator in a fixed order,
+     *  so new streams must only be added at the end.
+     *
+     * @param seed the seed of the level
+     */
+    public LevelRandom(long seed) {
+        int i;
+        SplittableRandom root = new SplittableRandom(seed);
+
+        SEED = seed;
+        streams = new SplittableRandom[STREAM_COUNT];
+        for (i = 0; i < STREAM_COUNT; i++)
+            streams[i] = root.split();
+    }
+
+    /** This method returns one of the named streams of the level.
+     *
+     * @param stream the stream to be returned, such as ZOMBIE_LANES
+     * @return the random number generator of the stream
+     */
+    public SplittableRandom get(int stream) {
+        return streams[stream];
+    }
+
+    /** This method returns the seed the streams were created from.
+     *
+     * @return the seed of the level
+     */
+    public long getSeed() {
+        return SEED;
+    }
+
+    /** the stream deciding which row a zombie spawns in*/
+    public static final int ZOMBIE_LANES = 0;
+    /** the stream deciding which variant of zombie spawns*/
+    public static final int ZOMBIE_TYPES = 1;
+    /** the stream deciding where falling suns land*/
+    public static final int SUN_POSITIONS = 2;
+    /** the stream deciding where graves are placed*/
+    public static final int GRAVES = 3;
+    /** the number of streams*/
+    private static final int STREAM_COUNT = 4;
+    /** the seed the streams were created from*/
+    private final long SEED;
+    /** the random number generators of each stream*/
+    private SplittableRandom[] streams;
+}
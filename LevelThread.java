@@ -1,7 +1,12 @@
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /** This class is responsible for allowing the game cycle
  *  of the level to be looped without interrupting the main thread of the program.
+ *  While no level is being played, the thread stays parked until the
+ *  model hands it a new level, so it uses no CPU in the menus.
  *
  *  @author PieIsSpy
  *  @author rachell-code
@@ -11,60 +16,191 @@ import java.util.Objects;
 public class LevelThread extends Thread {
     /** This constructor initializes the runningLevel status
      *  and the parent model that this class will be communicating with.
+     *  The tick rate of the simulation is read from the "pvz.tickRate"
+     *  system property, if it is given.
      *
      * @param m the parent model class that will communicate with this thread
      */
     public LevelThread(Model m) {
         parent = m;
         runningLevel = false;
+        endedSession = 0;
+        shuttingDown = false;
+        pendingLevels = new ArrayBlockingQueue<>(1);
+        clock = new SimulationClock(Integer.getInteger("pvz.tickRate", SimulationClock.DEFAULT_TICK_RATE));
+        snapshots = new SnapshotExchange();
+        session = 0;
+        commands = new ConcurrentLinkedQueue<>();
+        commandLog = new ArrayList<>();
     }
 
-    /** This method handles the game cycle of the level.
+    /** This method handles the game cycle of the level. The thread waits
+     *  for a level to be handed to it, then advances the level in fixed
+     *  ticks of the simulation clock. Any ticks missed after a stall are
+     *  caught up on before the thread waits for the next tick. Once the
+     *  level ends, the thread goes back to waiting until it is shut down.
      *
      */
     public void run() {
-        while (this.isAlive()) {
+        int i, due;
+
+        while (!shuttingDown) {
             try {
+                setLevel(pendingLevels.take());
+
                 do {
-                    levelTimer = (int)((System.currentTimeMillis() - levelStart)/1000);
+                    due = clock.ticksDue();
 
-                    if (level != null)
+                    // simulate every tick that is due, unless the level ends midway
+                    for (i = 0; i < due && isLevelRunning(); i++) {
+                        clock.advance();
+                        levelTimer = clock.getTime();
+                        executeCommands();
                         level.gameCycle(levelTimer);
+                        level.pruneInactive();
+                    }
+
+                    // let the GUI draw the state the ticks have left behind; a wakeup
+                    // without any tick leaves the state, and so the snapshot, unchanged
+                    if (i > 0 || !isLevelRunning())
+                        publishSnapshot();
 
-                    Thread.sleep(10);
-                } while (!level.isGameOver() && !level.isGameWon(levelTimer));
-                checkGameStatus();
-                cleanUp();
+                    if (isLevelRunning())
+                        clock.awaitNextTick();
+                } while (isLevelRunning());
+
+                if (!shuttingDown)
+                    checkGameStatus();
+            }
+            catch (InterruptedException e) {
+                // woken up while waiting for a level, which only happens on shut down
             }
-            catch (Exception e) {
-                // only run this if there is a level existing
+            catch (RuntimeException e) {
+                System.out.println("Level has crashed");
+                e.printStackTrace();
             }
+
+            cleanUp();
         }
     }
 
+    /** This method hands a level to the thread, which starts playing it
+     *  once the previous level has been cleaned up. Only one level can be
+     *  handed to the thread at a time.
+     *
+     * @param l the level to be played
+     * @return true if the level was handed to the thread, false if a level is already being played
+     */
+    public boolean submitLevel(Level l) {
+        if (isOccupied() || shuttingDown)
+            return false;
+
+        session++;
+        return pendingLevels.offer(l);
+    }
+
+    /** This method forfeits the level being played. The level is stopped
+     *  on the next tick, and a new level can be handed to the thread once
+     *  the thread has stopped it.
+     *
+     */
+    public void forfeit() {
+        submit(PlayerCommand.forfeit());
+    }
+
+    /** This method stops the thread for good, ending the level being played.
+     *
+     */
+    public void shutdown() {
+        shuttingDown = true;
+        interrupt();
+    }
+
+    /** This method checks if a level has been handed to the thread and
+     *  has not ended yet. A forfeited level only ends once the thread has
+     *  executed the forfeit and cleaned the level up.
+     *
+     * @return true if a level is being played, false otherwise
+     */
+    public boolean isOccupied() {
+        return session != endedSession;
+    }
+
+    /** This method checks if the level is still being played, which
+     *  means it has not been won, lost or forfeited.
+     *
+     * @return true if the level is still being played, false otherwise
+     */
+    private boolean isLevelRunning() {
+        return runningLevel && !shuttingDown && !level.isGameOver() && !level.isGameWon(levelTimer);
+    }
+
+    /** This method executes the commands the player has queued since the
+     *  last tick, in the order they were made. A forfeit command stops
+     *  the level. Every command that changed the level is logged so that
+     *  the game can be replayed. Commands made for an earlier level are
+     *  dropped.
+     *
+     */
+    private void executeCommands() {
+        PlayerCommand c;
+        boolean success;
+
+        while ((c = commands.poll()) != null) {
+            if (c.getSession() != levelSession)
+                continue;
+
+            success = c.execute(level, player, clock.getTick(), levelTimer);
+
+            if (c.getType().equals(PlayerCommand.FORFEIT))
+                runningLevel = false;
+            else if (success)
+                commandLog.add(c.getScript());
+
+            if (level.isLogging())
+                System.out.println("Tick " + c.getTick() + ": " + c + (success ? "" : " (failed)"));
+            c.finish(success);
+        }
+    }
+
+    /** This method queues a command of the player to be executed at the
+     *  start of the next tick. The command is tagged with the session
+     *  number of the latest level, so it is never executed on a later
+     *  one. It can be called from any thread.
+     *
+     * @param c the command to be queued
+     */
+    public void submit(PlayerCommand c) {
+        c.setSession(session);
+        commands.add(c);
+    }
+
+    /** This method returns the commands that changed the current level,
+     *  in the order they were executed. Passing them to the headless
+     *  simulation replays the game.
+     *
+     * @return the executed commands of the level
+     */
+    public ArrayList<ScriptedCommand> getCommandLog() {
+        return commandLog;
+    }
+
     /** This method checks if the game has ended or not.
      *  This method also cleans up any variables related to the previous level's timer
      *  if the level has already ended.
      *
      */
     public void checkGameStatus() {
-        try {
-            if (level.isGameWon(levelTimer)) { // if game is won
-                parent.incrementProgress();
-                parent.setLevelResult(level.getLEVEL_NUM());
-                System.out.println("Level won");
-            }
-            else if (level.isGameOver()) {
-                parent.setLevelResult(0);
-                System.out.println("Level lost");
-            }
-        }
-        catch (NullPointerException e) {
+        if (!runningLevel)
             System.out.println("Level has been preterminated");
+        else if (level.isGameWon(levelTimer)) { // if game is won
+            parent.incrementProgress();
+            parent.setLevelResult(level.getLEVEL_NUM());
+            System.out.println("Level won");
         }
-
-        if (!runningLevel) { // if its not running anymore
-            cleanUp();
+        else if (level.isGameOver()) {
+            parent.setLevelResult(0);
+            System.out.println("Level lost");
         }
     }
 
@@ -78,32 +214,50 @@ public class LevelThread extends Thread {
         runningLevel = false;
         level = null;
         player = null;
+        endedSession = levelSession;
     }
 
     /** This method initializes the level that will be running on this thread
      *
      * @param l the level to be ran in the thread
      */
-    public void setLevel(Level l) {
-        levelStart = System.currentTimeMillis();
+    private void setLevel(Level l) {
+        clock.reset();
+        levelSession = session;
+        commandLog = new ArrayList<>();
         levelTimer = 0;
         runningLevel = true;
         level = l;
+        level.setRecordingDespawns(true);
+        player = new Player(level.getStartingSun());
+    }
 
-        if (level.getLEVEL_NUM() == 1)
-            player = new Player(100);
-        else if (level.getLEVEL_NUM() == 2)
-            player = new Player(150);
-        else if (level.getLEVEL_NUM() == 3)
-            player = new Player(200);
+    /** This method copies the state of the running level into a
+     *  snapshot and publishes it to the GUI.
+     *
+     */
+    public void publishSnapshot() {
+        snapshots.getBack().capture(levelSession, level, player, levelTimer);
+        snapshots.publish();
+    }
+
+    /** This method returns the latest snapshot of the running level.
+     *  It must only be called by the GUI.
+     *
+     * @return the latest snapshot
+     */
+    public FrameSnapshot getSnapshot() {
+        return snapshots.acquire();
     }
 
-    /** This method changes the running status of the level.
+    /** This method returns the session number of the latest level
+     *  handed to the thread, which tells snapshots of different
+     *  levels apart.
      *
-     * @param b the current running status of the level
+     * @return the session number of the level
      */
-    public void setRunningLevel(boolean b) {
-        runningLevel = b;
+    public int getSession() {
+        return session;
     }
 
     /** This method returns the current level that is being ran on the thread.
@@ -124,77 +278,38 @@ public class LevelThread extends Thread {
 
     /** This method returns the current time frame of the running level
      *
-     * @return the current time frame of the running level
+     * @return the current time frame of the running level in milliseconds
      */
     public int getLevelTimer() {
         return levelTimer;
     }
 
-    /** This method places a specified plant into a
-     *  row and col position and subtracts its
-     *  current sun collection.
-     *
-     * @param name the name of the plant to be placed
-     * @param row the row of the plant
-     * @param col the col of the plant
-     */
-    public void playerPlant(String name, int row, int col) {
-        player.placePlant(level, row, col, name, levelTimer);
-        player.subtractSun(((Plant)(level.getTiles()[row][col])).getCost());
-        level.getCooldown(name).updateLastPlaced(levelTimer);
-    }
-
-    /** This method prompts the player to shovel an
-     *  occupied row and col
-     *
-     * @param row the row of the tile to be shoveled
-     * @param col the col of the tile to be shoveled
-     */
-    public void playerShovel(int row, int col) {
-        player.useShovel(level,row,col);
-    }
-
-    /** This method checks if the plant is ready to be placed.
-     *
-     * @param name the name of the plant to be checked
-     * @return true if the plant is ready to be placed,
-     * false otherwise
-     */
-    public boolean isPlantReady(String name) {
-        return level.getCooldown(name).isReady(levelTimer);
-    }
-
-    /** This method checks if the player has enough suns
-     *  to place a specific plant.
-     *
-     * @param name the name of the plant to check the cost
-     * @return true if the player has enough suns, false
-     * otherwise
-     */
-    public boolean hasEnoughSuns(String name) {
-        int i;
-        Plant p = null;
-
-        for (i = 0; i < level.getAvaliable_plants().length && p == null; i++)
-            if (name.equalsIgnoreCase(level.getAvaliable_plants()[i].getName()))
-                p = level.getAvaliable_plants()[i];
-
-        if (p != null)
-            return player.getSun() >= p.getCost();
-        else
-            return false;
-    }
-
     /**the model parent communicating with this thread*/
     private Model parent;
     /**the current level being ran on the thread*/
-    private Level level;
+    private volatile Level level;
     /**the player handling the running level*/
     private Player player;
     /**the running status of the level*/
     private boolean runningLevel;
-    /**the time frame where the level has started*/
-    private long levelStart;
+    /**the fixed timestep clock of the running level*/
+    private SimulationClock clock;
     /**the current time frame of the level*/
     private int levelTimer;
+    /**the snapshots passed to the GUI*/
+    private SnapshotExchange snapshots;
+    /**the number of levels handed to the thread*/
+    private volatile int session;
+    /**the session number of the level being played*/
+    private int levelSession;
+    /**the level waiting to be played*/
+    private BlockingQueue<Level> pendingLevels;
+    /**the session number of the last level that has ended*/
+    private volatile int endedSession;
+    /**dictates whether the thread has been told to stop*/
+    private volatile boolean shuttingDown;
+    /**the commands of the player waiting for the next tick*/
+    private ConcurrentLinkedQueue<PlayerCommand> commands;
+    /**the commands that changed the running level*/
+    private ArrayList<ScriptedCommand> commandLog;
 }
\ No newline at end of file
@@ -16,22 +16,13 @@ public class MenuPanel extends JPanel {
      * @param height the height of the panel
      * @param start the start button to be formatted
      * @param quit the quit button to be formatted
+     * @param a the loaded images of the game
      */
-    public MenuPanel(int width, int height, JButton start, JButton quit) {
+    public MenuPanel(int width, int height, JButton start, JButton quit, AssetManager a) {
         // get all images
-        try {
-            bgImg = new ImageIcon(getClass().getResource("/img/menu/menuImg.png"));
-        }
-        catch (Exception e) {
-            System.out.println("menuImg.png cannot be loaded");
-        }
-
-        try {
-            logoImg = new ImageIcon(getClass().getResource("/img/menu/logoImg.png"));
-        }
-        catch (Exception e) {
-            System.out.println("logoImg.png cannot be loaded");
-        }
+        assets = a;
+        bgImg = assets.get(Asset.MENU);
+        logoImg = assets.get(Asset.LOGO);
 
         PANEL_WIDTH = width;
         PANEL_HEIGHT = height;
@@ -86,14 +77,8 @@ public class MenuPanel extends JPanel {
         buttonContainerL.setPreferredSize(new Dimension(320,innerLeft.getHeight()));
         buttonContainerL.setOpaque(false);
 
-        ImageIcon startImg;
-        try {
-            startImg = new ImageIcon(getClass().getResource("/img/menu/startImg.png"));
-            start.setIcon(startImg);
-        }
-        catch (NullPointerException e) {
-            System.out.println("startImg.png cannot be loaded");
-        }
+        if (assets.get(Asset.START) != null)
+            start.setIcon(assets.get(Asset.START));
 
         start.setOpaque(false);
         start.setContentAreaFilled(false);
@@ -150,4 +135,6 @@ public class MenuPanel extends JPanel {
     private final int PANEL_WIDTH;
     /** the panel height*/
     private final int PANEL_HEIGHT;
+    /** the loaded images of the game*/
+    private AssetManager assets;
 }
@@ -17,38 +17,62 @@ public class Model {
         thread.start();
     }
 
+    /** This method stops the level thread for good. It waits a moment
+     *  for the thread to finish the tick it is on.
+     *
+     */
+    public void shutdown() {
+        thread.shutdown();
+
+        try {
+            thread.join(SimulationClock.SECOND);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /** This method initializes the Level to be played by the player.
      *  If the progress of the player is lower than the level number
      *  of a level or if a level is already running, the new level will not run.
+     *  A level that was forfeited is still running until the thread has
+     *  stopped it.
      *
      * @param levelNum the level number to be played
+     * @return true if the level was handed to the thread, false otherwise
      */
-    public void selectLevel(int levelNum) {
+    public boolean selectLevel(int levelNum) {
+        Level l = null;
+
         System.out.println("Called selectLevel()");
 
         // check if there are no levels running
-        if (thread.getLevel() == null) {
+        if (!thread.isOccupied()) {
             // make a new level
             if (levelNum <= levelProgress) {
                 switch (levelNum) {
                     case 1:
-                        level = new Level1(0);
+                        l = new Level1(0);
                         break;
                     case 2:
-                        level = new Level2(0);
+                        l = new Level2(0);
                         break;
                     case 3:
-                        level = new Level3(0);
+                        l = new Level3(0);
                         break;
                 }
 
-                // place the level into the thread
-                thread.setLevel(level);
+                // place the level into the thread, keeping the previous level if it is refused
+                if (l != null && thread.submitLevel(l)) {
+                    level = l;
+                    return true;
+                }
             }
             else
                 System.out.println("The level has not been unlocked yet");
         } else
             System.out.println("A level is currently running");
+
+        return false;
     }
 
     /** This method pre terminates the current running level
@@ -56,10 +80,9 @@ public class Model {
      *
      */
     public void endLevel() {
-        if (thread.getLevel() != null) {
+        if (thread.isOccupied()) {
             System.out.println("Level has ended");
-            thread.setRunningLevel(false);
-            thread.cleanUp();
+            thread.forfeit();
         }
         else
             System.out.println("There is no level currently running");
@@ -75,24 +98,36 @@ public class Model {
     }
 
     /** This method prompts the thread to place a plant
-     *  into a given row and col
+     *  into a given row and col on its next tick.
      *
      * @param name the name of the plant to be placed
      * @param row the row of the plant
      * @param col the col of the plant
+     * @param l the listener told about the result, or null if there is none
      */
-    public void playerPlant(String name, int row, int col) {
-        thread.playerPlant(name, row, col);
+    public void playerPlant(String name, int row, int col, CommandListener l) {
+        thread.submit(new PlayerCommand(PlayerCommand.PLANT, row, col, name, l));
     }
 
     /** This method prompts the thread to shovel an
-     *  occupied row and col
+     *  occupied row and col on its next tick.
      *
      * @param row the row of the tile to be shoveled
      * @param col the col of the tile to be shoveled
+     * @param l the listener told about the result, or null if there is none
      */
-    public void playerShovel(int row, int col) {
-        thread.playerShovel(row,col);
+    public void playerShovel(int row, int col, CommandListener l) {
+        thread.submit(new PlayerCommand(PlayerCommand.SHOVEL, row, col, null, l));
+    }
+
+    /** This method prompts the thread to collect the suns
+     *  on a row and col on its next tick.
+     *
+     * @param row the row of the tile to be collected from
+     * @param col the col of the tile to be collected from
+     */
+    public void collectSun(int row, int col) {
+        thread.submit(new PlayerCommand(PlayerCommand.COLLECT, row, col, null, null));
     }
 
     /** This method returns the running level thread of the Model.
@@ -103,6 +138,14 @@ public class Model {
         return thread;
     }
 
+    /** This method returns the level that was last selected.
+     *
+     * @return the level last selected
+     */
+    public Level getLevel() {
+        return level;
+    }
+
     /** This method returns the current level progression
      *  of the game.
      *
@@ -131,9 +174,9 @@ public class Model {
     }
 
     /**the latest result of the game*/
-    private int levelResult;
+    private volatile int levelResult;
     /**the progress of the player in the game*/
-    private int levelProgress = 1;
+    private volatile int levelProgress = 1;
     /**the running level thread of the model*/
     private LevelThread thread;
     /**the level being played*/
@@ -0,0 +1,52 @@
+import java.util.ArrayList;
+
+/** This class keeps objects that are no longer used by the game so
+ *  they can be reset and used again instead of allocating new ones.
+ *  A pool belongs to a single level and is only used by the thread
+ *  running that level.
+ *
+ *  @param <T> the type of object kept by the pool
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class ObjectPool<T> {
+    /** This constructor initializes an empty pool.
+     *
+     * @param capacity the number of objects the pool holds before growing
+     */
+    public ObjectPool(int capacity) {
+        free = new ArrayList<>(capacity);
+    }
+
+    /** This method takes an object out of the pool.
+     *
+     * @return an unused object, or null if the pool is empty
+     */
+    public T obtain() {
+        if (free.isEmpty())
+            return null;
+        else
+            return free.remove(free.size() - 1);
+    }
+
+    /** This method returns an object that is no longer used into the pool.
+     *
+     * @param o the object to be returned
+     */
+    public void release(T o) {
+        free.add(o);
+    }
+
+    /** This method returns the number of unused objects in the pool.
+     *
+     * @return the number of unused objects
+     */
+    public int getSize() {
+        return free.size();
+    }
+
+    /** the unused objects of the pool*/
+    private ArrayList<T> free;
+}
@@ -1,6 +1,4 @@
 
-import java.util.ArrayList;
-
 /** The class Peashooter represents the behaviors of a peashooter plant.
  * It extends the Plant class and defines how it interacts with 
  * zombie objects whether by firing projectiles or detecting nearby
@@ -47,6 +45,25 @@ public class Peashooter extends Plant {
         setProjectileSpeed(1.5f);
     }
 
+    /**
+     * This method returns the time the peashooter shoots next,
+     * which is only once a zombie is within its range.
+     *
+     * @param level the level to check for zombies
+     * @param currentTime the current time reference
+     * @return the time of the next shot, or Integer.MAX_VALUE if no zombie is within range
+     */
+    @Override
+    public int getNextActionTime(Level level, int currentTime)
+    {
+        Zombie z = findFront(level);
+
+        if (z != null && isWithinRange(z.getCol()))
+            return getInternal_time() + getSpeed() * SimulationClock.SECOND;
+
+        return Integer.MAX_VALUE;
+    }
+
     /**
      * This method is used to define the peashooter's 
      * behavior in response to zombie objects in the
@@ -59,12 +76,12 @@ public class Peashooter extends Plant {
     @Override
     public void plantBehavior(Level level, int currentTime)
     {
-        Zombie z = findFront(level.getEnemies());
+        Zombie z = findFront(level);
 
         //System.out.println(z != null && isWithinRange(z.getCol()));
         if(z != null && isWithinRange(z.getCol()))
         {
-            if (currentTime - getInternal_time() >= getSpeed()) {
+            if (currentTime - getInternal_time() >= getSpeed() * SimulationClock.SECOND) {
                 //System.out.println("pew");
                 shoot(z, currentTime, level);
                 setInternal_time(currentTime);
@@ -119,57 +136,30 @@ public class Peashooter extends Plant {
         //System.out.println("Pew!");
         if(isWithinDirectDamage(z.getCol()))
         {
-            level.getPeas().add(new Projectile(getRow(), getCol(), currentTime, getDirectDamage(), projectileSpeed));
+            level.fireProjectile(getRow(), getCol(), currentTime, getDirectDamage(), projectileSpeed);
         }
         else if (isWithinRange(z.getCol()))
         {
-            level.getPeas().add(new Projectile(getRow(), getCol(), currentTime, getDamage(), projectileSpeed));
+            level.fireProjectile(getRow(), getCol(), currentTime, getDamage(), projectileSpeed);
         }
     }
 
     /**
      * 
-     * This method searches through the list of zombie 
-     * objects to find the nearest one positioned in the 
+     * This method searches the zombies in the row of the
+     * peashooter to find the nearest one positioned in the 
      * front of peashooter object. If successful, it will
      * return the nearest zombie object, otherwise, it 
      * will return null
      * 
-     * @param enemies list of zombie objects 
+     * @param level the level to check for zombies
      * @return nearest zombie object if it is positioned in front of
      * peashooter, otherwise, null. 
      */
-    public Zombie findFront(ArrayList<Zombie> enemies)
+    public Zombie findFront(Level level)
     {
-    
-        int i, finalCol = -1; 
-        float smallestDistance = 888f, distance;
-        
-        for(i = 0; i < enemies.size(); i++)
-        {
-            //if same row
-            if(enemies.get(i).getRow() == getRow())
-            {
-                //distance between plant and zombie
-                distance = enemies.get(i).getCol() - getCol();
-
-                // if the distance between them is small and that zombie is vulnerable
-                if(distance >= 0 && distance < smallestDistance)
-                {
-                    smallestDistance = distance;
-                    finalCol = i;
-                }
-            }
-        }
-
-        //if nearest zombie object is found
-        if(finalCol != -1)
-        {
-            return enemies.get(finalCol);
-        }
-
-        return null;
-
+        // the row is sorted by column, so the nearest zombie ahead is found by a binary search
+        return level.getZombieIndex().findNearestAhead((int)getRow(), getCol());
     }
 
     /**
@@ -36,6 +36,19 @@ abstract class Plant extends Entity {
         
     }
 
+    /** This method returns the earliest time the plant can act again,
+     *  as long as nothing else in the level changes first. By default,
+     *  a plant never acts on its own.
+     *
+     * @param level the level to be checked
+     * @param currentTime the current time frame of the game
+     * @return the time of the next action, or Integer.MAX_VALUE if the plant cannot act
+     */
+    public int getNextActionTime(Level level, int currentTime)
+    {
+        return Integer.MAX_VALUE;
+    }
+
     /** This method sets the name of the plant.
      *
      *  @param n the name of the plant
@@ -105,6 +118,24 @@ abstract class Plant extends Entity {
         return name;
     }
 
+    /** This method returns the type of the plant.
+     *
+     *  @return the type of the plant, or null if it was not made by a plant type
+     */
+    public PlantType getType()
+    {
+        return type;
+    }
+
+    /** This method sets the type of the plant.
+     *
+     *  @param t the type of the plant
+     */
+    public void setType(PlantType t)
+    {
+        type = t;
+    }
+
     /** This method returns the sun cost of the plant.
      *
      *  @return the sun cost of the plant
@@ -167,4 +198,6 @@ abstract class Plant extends Entity {
     private int directDamage;
     /**the range between plant and zombie object that allows plant to deal increased damage*/
     private int directDamageRange;
+    /** the type of the plant, or null if it was not made by a plant type */
+    private PlantType type;
 }
@@ -0,0 +1,83 @@
+/** This class keeps track of which tiles of the lawn hold a plant.
+ *  Each row is stored as a bitmask with one bit per column, so a zombie
+ *  can find the nearest plant in front of it with a few bit operations
+ *  instead of walking the whole row of tiles.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class PlantOccupancy {
+    /** This constructor initializes an empty bitmask for each row of the lawn.
+     *
+     * @param rows the number of rows of the lawn
+     * @param cols the number of columns of the lawn
+     */
+    public PlantOccupancy(int rows, int cols) {
+        COLUMNS = cols;
+        bits = new long[rows][(cols + 63) / 64];
+    }
+
+    /** This method marks a tile as holding a plant.
+     *
+     * @param row the row of the tile
+     * @param col the col of the tile
+     */
+    public void set(int row, int col) {
+        bits[row][col >> 6] |= 1L << (col & 63);
+    }
+
+    /** This method marks a tile as no longer holding a plant.
+     *
+     * @param row the row of the tile
+     * @param col the col of the tile
+     */
+    public void clear(int row, int col) {
+        bits[row][col >> 6] &= ~(1L << (col & 63));
+    }
+
+    /** This method checks if a tile holds a plant.
+     *
+     * @param row the row of the tile
+     * @param col the col of the tile
+     * @return true if the tile holds a plant, false otherwise
+     */
+    public boolean isSet(int row, int col) {
+        return (bits[row][col >> 6] & (1L << (col & 63))) != 0;
+    }
+
+    /** This method finds the plant with the greatest column that is
+     *  less than or equal to the given column in a row.
+     *
+     * @param row the row to be searched
+     * @param col the column to be searched from
+     * @return the column of the nearest plant, or -1 if there is none
+     */
+    public int findAtOrBefore(int row, int col) {
+        long[] words = bits[row];
+        int word;
+        long mask;
+
+        if (col < 0)
+            return -1;
+        if (col >= COLUMNS)
+            col = COLUMNS - 1;
+
+        // only keep the bits at or before the column in its word
+        word = col >> 6;
+        mask = words[word] & (-1L >>> (63 - (col & 63)));
+
+        while (mask == 0 && word > 0)
+            mask = words[--word];
+
+        if (mask == 0)
+            return -1;
+        else
+            return (word << 6) + 63 - Long.numberOfLeadingZeros(mask);
+    }
+
+    /** the number of columns of the lawn*/
+    private final int COLUMNS;
+    /** the bitmask of each row, 64 columns per word*/
+    private long[][] bits;
+}
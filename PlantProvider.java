@@ -0,0 +1,18 @@
+/** This interface represents a source of plant types outside of the
+ *  game itself. Providers are found with a ServiceLoader, so a new plant
+ *  is added by listing a class implementing this interface in a
+ *  META-INF/services/PlantProvider file on the classpath, with its
+ *  sprites at lawn/plants/ and lawn/draggable/seedPackets/ in the image
+ *  index.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public interface PlantProvider {
+    /** This method adds the plant types of the provider to a registry.
+     *
+     * @param registry the registry the plant types are added to
+     */
+    void registerPlants(PlantRegistry registry);
+}
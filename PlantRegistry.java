@@ -0,0 +1,161 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/** This class holds every plant type of the game. Each type is given the
+ *  next ID when it is registered, so the IDs of the plants of the game
+ *  stay the same no matter which providers are found afterwards.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class PlantRegistry {
+    /** This constructor initializes an empty registry.
+     *
+     */
+    public PlantRegistry() {
+        types = new ArrayList<>();
+        byName = new HashMap<>();
+    }
+
+    /** This method adds a plant type to the registry and gives it its ID.
+     *  A plant type that is rejected is left without an ID.
+     *
+     * @param type the plant type to be added
+     * @throws IllegalArgumentException if a plant type of the same name is already registered
+     */
+    public synchronized void register(PlantType type) {
+        type.readStats();
+
+        if (byName.containsKey(type.getSpriteKey()))
+            throw new IllegalArgumentException(type.getName() + " is already registered");
+
+        type.register(types.size());
+        types.add(type);
+        byName.put(type.getSpriteKey(), type);
+    }
+
+    /** This method returns a plant type by its ID.
+     *
+     * @param id the ID of the plant type
+     * @return the plant type
+     */
+    public PlantType get(int id) {
+        return types.get(id);
+    }
+
+    /** This method returns a plant type by its name, ignoring case.
+     *
+     * @param name the name of the plant type
+     * @return the plant type, or null if there is none
+     */
+    public PlantType get(String name) {
+        return byName.get(name.toLowerCase());
+    }
+
+    /** This method returns the number of plant types.
+     *
+     * @return the number of plant types
+     */
+    public int size() {
+        return types.size();
+    }
+
+    /** This method returns the registry of the game, holding the plants
+     *  of the game followed by the plants of every provider found.
+     *
+     * @return the registry of the game
+     */
+    public static PlantRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /** This method makes the registry of the game. A provider that
+     *  cannot be loaded or fails to register its plants is skipped, so
+     *  the game can still start without it.
+     *
+     * @return the registry of the game
+     */
+    private static PlantRegistry createDefault() {
+        PlantRegistry r = new PlantRegistry();
+        Iterator<PlantProvider> providers;
+
+        r.register(new PlantType() {
+            @Override
+            protected Plant newPlant(int row, int col, int t) {
+                return new Sunflower(row, col, t);
+            }
+        });
+        r.register(new PlantType() {
+            @Override
+            protected Plant newPlant(int row, int col, int t) {
+                return new Peashooter(row, col, t);
+            }
+        });
+        r.register(new PlantType() {
+            @Override
+            protected Plant newPlant(int row, int col, int t) {
+                return new CherryBomb(row, col, t);
+            }
+        });
+        r.register(new PlantType() {
+            @Override
+            protected Plant newPlant(int row, int col, int t) {
+                return new Wallnut(row, col, t);
+            }
+        });
+        r.register(new PlantType() {
+            @Override
+            protected Plant newPlant(int row, int col, int t) {
+                return new PotatoMine(row, col, t);
+            }
+        });
+        r.register(new PlantType() {
+            @Override
+            protected Plant newPlant(int row, int col, int t) {
+                return new SnowPea(row, col, t);
+            }
+        });
+
+        providers = ServiceLoader.load(PlantProvider.class).iterator();
+        while (hasNextProvider(providers)) {
+            try {
+                providers.next().registerPlants(r);
+            }
+            catch (ServiceConfigurationError e) {
+                System.out.println("Plant provider cannot be loaded: " + e.getMessage());
+            }
+            catch (RuntimeException e) {
+                System.out.println("Plant provider cannot register its plants: " + e.getMessage());
+            }
+        }
+
+        return r;
+    }
+
+    /** This method checks if there is another plant provider to be loaded.
+     *  The list of providers cannot be read any further once it fails.
+     *
+     * @param providers the providers being loaded
+     * @return true if there is another provider, false otherwise
+     */
+    private static boolean hasNextProvider(Iterator<PlantProvider> providers) {
+        try {
+            return providers.hasNext();
+        }
+        catch (ServiceConfigurationError e) {
+            System.out.println("Plant providers cannot be listed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** the registry of the game*/
+    private static final PlantRegistry DEFAULT = createDefault();
+    /** the plant types by ID*/
+    private ArrayList<PlantType> types;
+    /** the plant types by their name in lower case*/
+    private HashMap<String, PlantType> byName;
+}
@@ -0,0 +1,160 @@
+/** This class represents a kind of plant that can be placed on the lawn.
+ *  It makes the plants of its kind, and holds the stats every plant of
+ *  the kind starts with, such as its cost and cooldown. A plant type is
+ *  given a small ID when it is registered, so plant types can be looked
+ *  up in arrays instead of by name.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public abstract class PlantType {
+    /** This constructor initializes a plant type that has not been
+     *  registered yet.
+     *
+     */
+    public PlantType() {
+        id = -1;
+    }
+
+    /** This method makes a new plant of this kind.
+     *
+     * @param r the row of the plant
+     * @param c the column of the plant
+     * @param t the time the plant is placed
+     * @return the new plant
+     */
+    protected abstract Plant newPlant(int r, int c, int t);
+
+    /** This method makes a new plant of this kind that knows its type.
+     *
+     * @param r the row of the plant
+     * @param c the column of the plant
+     * @param t the time the plant is placed
+     * @return the new plant
+     */
+    public Plant create(int r, int c, int t) {
+        Plant p = newPlant(r, c, t);
+
+        p.setType(this);
+        return p;
+    }
+
+    /** This method reads the stats of the plant type from a plant of its
+     *  kind. It is called by the registry the type is being added to,
+     *  before the type is given its ID.
+     *
+     * @throws IllegalStateException if the type has already been registered
+     */
+    void readStats() {
+        Plant p;
+
+        if (id != -1)
+            throw new IllegalStateException(name + " is already registered");
+
+        p = newPlant(-1, -1, 0);
+        name = p.getName();
+        cost = p.getCost();
+        cooldown = p.getCooldown();
+        health = p.getHealth();
+        range = p.getRange();
+        damage = p.getDamage();
+        spriteKey = name.toLowerCase();
+    }
+
+    /** This method gives the plant type its ID. It is called once, by the
+     *  registry the type is added to, after its stats have been read.
+     *
+     * @param i the ID of the plant type
+     * @throws IllegalStateException if the type has already been registered
+     */
+    void register(int i) {
+        if (id != -1)
+            throw new IllegalStateException(name + " is already registered");
+
+        id = i;
+    }
+
+    /** This method returns the ID of the plant type.
+     *
+     * @return the ID of the plant type, or -1 if it is not registered
+     */
+    public int getId() {
+        return id;
+    }
+
+    /** This method returns the name of the plant type.
+     *
+     * @return the name of the plant type
+     */
+    public String getName() {
+        return name;
+    }
+
+    /** This method returns how many suns a plant of this kind costs.
+     *
+     * @return the cost of the plant
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /** This method returns how many seconds the player waits between
+     *  placing two plants of this kind.
+     *
+     * @return the cooldown of the plant in seconds
+     */
+    public int getCooldown() {
+        return cooldown;
+    }
+
+    /** This method returns the health a plant of this kind starts with.
+     *
+     * @return the starting health of the plant
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /** This method returns the range of a plant of this kind.
+     *
+     * @return the range of the plant
+     */
+    public int getRange() {
+        return range;
+    }
+
+    /** This method returns the damage a plant of this kind deals.
+     *
+     * @return the damage of the plant
+     */
+    public int getDamage() {
+        return damage;
+    }
+
+    /** This method returns the name the images of this kind of plant
+     *  are stored under.
+     *
+     * @return the name of the images of the plant
+     */
+    public String getSpriteKey() {
+        return spriteKey;
+    }
+
+    /** the ID of the plant type*/
+    private int id;
+    /** the name of the plant type*/
+    private String name;
+    /** the cost of the plant*/
+    private int cost;
+    /** the cooldown of the plant in seconds*/
+    private int cooldown;
+    /** the starting health of the plant*/
+    private int health;
+    /** the range of the plant*/
+    private int range;
+    /** the damage of the plant*/
+    private int damage;
+    /** the name the images of the plant are stored under*/
+    private String spriteKey;
+}
@@ -25,28 +25,56 @@ public class Player {
     }
 
     /** This method instantiates a plant to a Level class
-     *  in a given row and column, provided that the given
-     *  name of the plant is valid.
+     *  in a given row and column.
+     *
+     * @param l the level to instantiate the plant
+     * @param r the row of the plant to be instantiated
+     * @param c the col of the plant to be instantiated
+     * @param type the type of the plant to be instantiated
+     * @param t the time of instantiation
+     */
+    public void placePlant(Level l, int r, int c, PlantType type, int t) {
+        l.addPlant(type.create(r, c, t));
+    }
+
+    /** This method plants a plant into a Level class if the tile is
+     *  empty, the plant has finished its cooldown, and the player has
+     *  enough suns. The cost of the plant is subtracted and its cooldown
+     *  is restarted afterwards.
      *
      * @param l the level to instantiate the plant
      * @param r the row of the plant to be instantiated
      * @param c the col of the plant to be instantiated
      * @param n the name of the plant to be instantiated
      * @param t the time of instantiation
+     * @return true if the plant was placed, false otherwise
+     */
+    public boolean plant(Level l, int r, int c, String n, int t) {
+        return plant(l, r, c, PlantRegistry.getDefault().get(n), t);
+    }
+
+    /** This method plants a plant of the given type into a Level class
+     *  if the type is available in the level, the tile is empty, the
+     *  plant has finished its cooldown, and the player has enough suns.
+     *
+     * @param l the level to instantiate the plant
+     * @param r the row of the plant to be instantiated
+     * @param c the col of the plant to be instantiated
+     * @param type the type of the plant to be instantiated, or null if there is none
+     * @param t the time of instantiation
+     * @return true if the plant was placed, false otherwise
      */
-    public void placePlant(Level l, int r, int c, String n, int t) {
-        if (n.equalsIgnoreCase("sunflower"))
-            l.getTiles()[r][c] = new Sunflower(r,c,t);
-        else if (n.equalsIgnoreCase("peashooter"))
-            l.getTiles()[r][c] = new Peashooter(r,c, t);
-        else if(n.equalsIgnoreCase("wallnut"))
-            l.getTiles()[r][c] = new Wallnut(r, c, t);
-        else if (n.equalsIgnoreCase("potato mine"))
-            l.getTiles()[r][c] = new PotatoMine(r,c,t);
-        else if (n.equalsIgnoreCase("cherry bomb"))
-            l.getTiles()[r][c] = new CherryBomb(r,c,t);
-        else if (n.equalsIgnoreCase("snow pea"))
-            l.getTiles()[r][c] = new SnowPea(r,c,t);
+    public boolean plant(Level l, int r, int c, PlantType type, int t) {
+        Cooldown cooldown = l.getCooldown(type);
+
+        if (cooldown == null || !l.canBePlaced(r, c) || sun < type.getCost() || !cooldown.isReady(t))
+            return false;
+
+        placePlant(l, r, c, type, t);
+        subtractSun(type.getCost());
+        cooldown.updateLastPlaced(t);
+
+        return true;
     }
 
     /** This method removes a plant in a given row
@@ -57,7 +85,7 @@ public class Player {
      * @param c the col to be shoveled
      */
     public void useShovel(Level l, int r, int c) {
-        l.getTiles()[r][c] = null;
+        l.removeTile(r, c);
     }
 
     /** This method collects the sun present in a level
@@ -70,6 +98,31 @@ public class Player {
         sun += s;
     }
 
+    /** This method collects every sun lying on a tile of a level.
+     *
+     * @param l the level the suns are in
+     * @param r the row of the tile
+     * @param c the col of the tile
+     * @return true if at least one sun was collected, false otherwise
+     */
+    public boolean collectSuns(Level l, int r, int c) {
+        int i;
+        Sun s;
+        boolean collected = false;
+
+        for (i = 0; i < l.getSuns().size(); i++) {
+            s = l.getSuns().get(i);
+
+            if (s.isActive() && (int)s.getRow() == r && (int)s.getCol() == c) {
+                collectSun(s.getAmount());
+                s.deactivate();
+                collected = true;
+            }
+        }
+
+        return collected;
+    }
+
     /** This method subtracts the player's
      *  accumulated amount of suns.
      *
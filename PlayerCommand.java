@@ -0,0 +1,186 @@
+/** This class represents an action the player makes through the GUI,
+ *  such as placing a plant, shoveling a tile, collecting a sun or
+ *  forfeiting the level. Commands are queued by the GUI and executed by
+ *  the level thread at the start of its next tick, so the level is only
+ *  ever changed by one thread. Each executed command is stamped with the
+ *  tick it ran on, and can be turned into a scripted command to replay
+ *  the game headlessly.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class PlayerCommand {
+    /** This constructor initializes the type of the command and the tile
+     *  it targets.
+     *
+     * @param type the type of the command, such as PLANT
+     * @param r the row of the targeted tile
+     * @param c the col of the targeted tile
+     * @param n the name of the plant to be placed, or null for other commands
+     * @param l the listener told about the result, or null if there is none
+     */
+    public PlayerCommand(String type, int r, int c, String n, CommandListener l) {
+        TYPE = type;
+        ROW = r;
+        COL = c;
+        PLANT_NAME = n;
+        listener = l;
+        tick = -1;
+        time = -1;
+        session = 0;
+        script = null;
+    }
+
+    /** This method creates a command that forfeits the level.
+     *
+     * @return the forfeit command
+     */
+    public static PlayerCommand forfeit() {
+        return new PlayerCommand(FORFEIT, -1, -1, null, null);
+    }
+
+    /** This method executes the command on a level for the given player.
+     *  A forfeit command does not change the level, since it is handled
+     *  by the level thread itself.
+     *
+     * @param l the level to be edited
+     * @param p the player executing the command
+     * @param t the tick the command is executed on
+     * @param currentTime the current time frame of the level
+     * @return true if the command changed the level, false otherwise
+     */
+    public boolean execute(Level l, Player p, long t, int currentTime) {
+        tick = t;
+        time = currentTime;
+
+        if (TYPE.equals(FORFEIT))
+            return true;
+
+        script = new ScriptedCommand(TYPE, currentTime, ROW, COL, PLANT_NAME);
+        return script.execute(l, p, currentTime);
+    }
+
+    /** This method tells the listener of the command about its result.
+     *
+     * @param success true if the command changed the level, false otherwise
+     */
+    public void finish(boolean success) {
+        if (listener != null)
+            listener.commandExecuted(this, success);
+    }
+
+    /** This method returns the type of the command.
+     *
+     * @return the type of the command
+     */
+    public String getType() {
+        return TYPE;
+    }
+
+    /** This method returns the row of the targeted tile.
+     *
+     * @return the row of the tile
+     */
+    public int getRow() {
+        return ROW;
+    }
+
+    /** This method returns the col of the targeted tile.
+     *
+     * @return the col of the tile
+     */
+    public int getCol() {
+        return COL;
+    }
+
+    /** This method returns the name of the plant to be placed.
+     *
+     * @return the name of the plant, or null for other commands
+     */
+    public String getPlantName() {
+        return PLANT_NAME;
+    }
+
+    /** This method sets the session number of the level the command
+     *  was made for.
+     *
+     * @param s the session number of the level
+     */
+    public void setSession(int s) {
+        session = s;
+    }
+
+    /** This method returns the session number of the level the command
+     *  was made for.
+     *
+     * @return the session number of the level
+     */
+    public int getSession() {
+        return session;
+    }
+
+    /** This method returns the tick the command was executed on.
+     *
+     * @return the tick of execution, or -1 if it has not been executed
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /** This method returns the time the command was executed.
+     *
+     * @return the time of execution in milliseconds, or -1 if it has not been executed
+     */
+    public int getTime() {
+        return time;
+    }
+
+    /** This method returns the scripted form of the command that
+     *  replays it at the time it was executed.
+     *
+     * @return the scripted command, or null if it cannot be replayed
+     */
+    public ScriptedCommand getScript() {
+        return script;
+    }
+
+    /** This method returns the command as text for logging.
+     *
+     * @return the command as text
+     */
+    @Override
+    public String toString() {
+        if (script != null)
+            return script.toString();
+        else
+            return TYPE + ":" + ROW + ":" + COL;
+    }
+
+    /** the type of a command placing a plant*/
+    public static final String PLANT = "plant";
+    /** the type of a command shoveling a tile*/
+    public static final String SHOVEL = "shovel";
+    /** the type of a command collecting the suns of a tile*/
+    public static final String COLLECT = "collect";
+    /** the type of a command forfeiting the level*/
+    public static final String FORFEIT = "forfeit";
+    /** the type of the command*/
+    private final String TYPE;
+    /** the row of the targeted tile*/
+    private final int ROW;
+    /** the col of the targeted tile*/
+    private final int COL;
+    /** the name of the plant to be placed*/
+    private final String PLANT_NAME;
+    /** the listener told about the result*/
+    private CommandListener listener;
+    /** the session number of the level the command was made for*/
+    private int session;
+    /** the tick the command was executed on*/
+    private long tick;
+    /** the time the command was executed*/
+    private int time;
+    /** the scripted form of the executed command*/
+    private ScriptedCommand script;
+}
@@ -8,53 +8,76 @@
  */
 public class PolevaulterZombie extends Zombie{
     /** This constructor initializes the zombie's row and column position,
-     *  its time of creation and the item it is holding.
+     *  its time of creation and the kind it is, which gives it its item.
      *
      * @param r the row coordinate of the zombie
      * @param c the col coordinate of the zombie
      * @param t the time of its creation
      */
     public PolevaulterZombie(int r, int c, int t) {
-        super(r, c, t, new Item("Pole",1,0));
+        super(r, c, t, ZombieType.get(POLEVAULTER));
+    }
+
+
+    /** This method returns the earliest time the zombie can act again.
+     *  The zombie vaults as soon as it reaches a plant while it still
+     *  holds its pole.
+     *
+     * @param level the level the zombie is in
+     * @param currentTime the current time reference of the game
+     * @return the time of the next action, or Integer.MAX_VALUE if the zombie cannot act
+     */
+    @Override
+    public int getNextActionTime(Level level, int currentTime) {
+        Entity front;
+
+        if (this.isAtHouse() || !this.isAlive())
+            return Integer.MAX_VALUE;
+
+        front = findFront(level);
+
+        if (front == null || getCol() - front.getCol() > 1)
+            return getInternal_time() + ZombieType.WALK_INTERVAL;
+        else if (front.isAlive() && hasItem())
+            return currentTime;
+        else
+            return getInternal_time() + getType().getEatInterval(isSlowed());
     }
 
     /** This method compiles basic action methods
      *  of a zombie and turns it into a behaviour.
      *  It also discards the item when used.
      *
-     * @param plants the plant row to be checked
+     * @param level the level the zombie is in
      * @param currentTime the current time reference of the game
      */
     @Override
-    public void behaviour(Entity[] plants, int currentTime) {
+    public void behaviour(Level level, int currentTime) {
+        Entity front;
+
         // defrost the zombie first
         defrost(currentTime);
 
         if (!this.isAtHouse() && this.isAlive()) {
+            front = findFront(level);
+
             // case 1: if zombie is still not within attack range or there isn't any plants in front
-            if (findFront(plants) == null || getCol() - findFront(plants).getCol() > 1) {
-                if (currentTime - getInternal_time() >= 1) {
+            if (front == null || getCol() - front.getCol() > 1) {
+                if (currentTime - getInternal_time() >= ZombieType.WALK_INTERVAL) {
                     walk();
                     setInternal_time(currentTime);
                 }
             }
             // case 2: if a plant is in front of zombie and the zombie is still holding the item
-            else if (findFront(plants).isAlive() && getHeld_item() != null) {
+            else if (front.isAlive() && hasItem()) {
                 setCol(getCol() - 1);
-                setHeld_item(null);
+                setPreviousCol(getCol()); // the vault is a jump, not a step
+                dropItem();
             }
-            //case 3: if a plant is in front of zombie but does not have an item
-            else {
-                // case 1: if not slowed
-                if (!isSlowed() && currentTime - getInternal_time() >= 0.5) { // zombie should eat at a certain rate
-                    eat(findFront(plants));
-                    setInternal_time(currentTime);
-                }
-                // case 2: if slowed
-                else if (isSlowed() && currentTime - getInternal_time() >= 3) {
-                    eat(findFront(plants));
-                    setInternal_time(currentTime);
-                }
+            //case 3: if a plant is in front of zombie but does not have an item, eat it at a rate that depends on if it is slowed
+            else if (currentTime - getInternal_time() >= getType().getEatInterval(isSlowed())) {
+                eat(front, level);
+                setInternal_time(currentTime);
             }
         }
     }
@@ -48,23 +48,36 @@ public class PotatoMine extends Plant{
      */
     @Override
     public void plantBehavior(Level level, int currentTime) {
-        if (isPrimed(currentTime) && isTriggered(level.getEnemies())) {
+        if (!primed && isPrimed(currentTime))
+            primed = true;
+
+        if (isPrimed(currentTime) && isTriggered(level)) {
             //System.out.println("BOOM");
-            blowUp(level.getEnemies());
+            blowUp(level);
             setHealth(0);
+            level.markDead(this);
         }
     }
 
     /** This method damages all zombies in one singular tile.
      *
-     * @param z all instance of zombies
+     * @param level the level to check for zombies
      */
-    public void blowUp(ArrayList<Zombie> z) {
-        int i;
+    public void blowUp(Level level) {
+        ZombieIndex index = level.getZombieIndex();
+        ArrayList<Zombie> lane;
+        int row, i;
+
+        // every row is sorted, so the zombies on the column of the mine come right after the lower bound
+        for (row = 0; row < index.getRows(); row++) {
+            lane = index.getLane(row);
+            i = index.lowerBound(row, getCol());
 
-        for (i = 0; i < z.size(); i++)
-            if (isWithinRange(z.get(i)))
-                z.get(i).takeDamage(getDamage());
+            while (i < lane.size() && isWithinRange(lane.get(i))) {
+                lane.get(i).takeDamage(getDamage());
+                i++;
+            }
+        }
     }
 
     /** This method checks if the potato mine is ready to be used.
@@ -73,27 +86,37 @@ public class PotatoMine extends Plant{
      * @return true if it is already 15 seconds, false otherwise
      */
     public boolean isPrimed(int currentTime) {
-        return currentTime - getInternal_time() >= getSpeed();
+        return currentTime - getInternal_time() >= getSpeed() * SimulationClock.SECOND;
+    }
+
+    /** This method returns the earliest time the potato mine can act
+     *  again, which is when it is primed, or right away if a zombie is
+     *  already on top of it once it is primed.
+     *
+     * @param level the level to be checked
+     * @param currentTime the current time frame of the game
+     * @return the time of the next action, or Integer.MAX_VALUE if no zombie is on the mine
+     */
+    @Override
+    public int getNextActionTime(Level level, int currentTime) {
+        if (!isPrimed(currentTime))
+            return getInternal_time() + getSpeed() * SimulationClock.SECOND;
+        else if (isTriggered(level))
+            return currentTime;
+        else
+            return Integer.MAX_VALUE;
     }
 
     /** This method checks if a zombie have stepped on the mine.
      *
-     * @param z all instance of zombies to be checked
+     * @param level the level to check for zombies
      * @return true if atleast one zombie have stepped on the mine,
      * false otherwise
      */
-    public boolean isTriggered(ArrayList<Zombie> z) {
-        int i = 0;
-        boolean condition = false;
+    public boolean isTriggered(Level level) {
+        Zombie z = level.getZombieIndex().findNearestAhead((int)getRow(), getCol());
 
-        while (i < z.size() && !condition) {
-            if (z.get(i).getRow() == getRow() && isWithinRange(z.get(i)))
-                condition = true;
-            else
-                i++;
-        }
-
-        return condition;
+        return z != null && isWithinRange(z);
     }
 
     /** This method checks if a zombie is within its tile range.
@@ -106,4 +129,17 @@ public class PotatoMine extends Plant{
     }
 
     // change appearance based on primed status
+
+    /** This method returns whether the potato mine has been primed,
+     *  which decides how it looks.
+     *
+     * @return 1 if the potato mine has been primed, 0 otherwise
+     */
+    @Override
+    public byte getSpriteState() {
+        return (byte)(primed ? 1 : 0);
+    }
+
+    /** dictates whether the potato mine has been primed*/
+    private boolean primed;
 }
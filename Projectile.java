@@ -28,6 +28,26 @@ public class Projectile extends GameElement{
         speed = s;
         damage = dmg;
         hasHit = false;
+        previousCol = col;
+    }
+
+    /**
+     * This method resets a projectile that is being reused
+     * so that it is fired again from a new position.
+     *
+     * @param row row position of  a projectile
+     * @param col column position of a projectile
+     * @param time the time the projectile is fired
+     * @param dmg damage it deals to another object
+     * @param s speed of projectile
+     */
+    public void reset(float row, float col, int time, int dmg, float s)
+    {
+        reset(row, col, time);
+        speed = s;
+        damage = dmg;
+        hasHit = false;
+        previousCol = col;
     }
 
     /**
@@ -58,7 +78,8 @@ public class Projectile extends GameElement{
     {
         float pos = getCol();
 
-        if (currentTime - getInternal_Time() >= 1) {
+        if (currentTime - getInternal_Time() >= SimulationClock.SECOND) {
+            previousCol = pos;
             pos += (float) (1.0 / speed);
             setCol(pos);
             setInternal_Time(currentTime);
@@ -74,32 +95,74 @@ public class Projectile extends GameElement{
      * moving. The current time reference is used to
      * know if the projectile should be updating or not.
      *
-     * @param enemies list of zombie objects
+     * @param level the level to check for zombies
      * @param currentTime the current time reference
      */
-    public void update(ArrayList<Zombie> enemies, int currentTime)
+    public void update(Level level, int currentTime)
     {
-        int x;
+        //find the zombie within the same row that is within range of attack
+        Zombie z = findTarget(level);
 
-        //loops through the list of enemies within the same row
-        for(x = 0; x < enemies.size() && !hasHit; x++)
+        //if projectile is within range of attack
+        if(!hasHit && z != null && (z.getCol() - getCol()) < 0.5)
         {
-            //if zombie is alive and vulnerable and projectile is within range of attack
-            if(enemies.get(x).isAlive() && (enemies.get(x).getCol() - getCol()) < 0.5 && getRow() == enemies.get(x).getRow())
-            {
-                hit(enemies.get(x));
-                hasHit = true;
-            }
-
+            hit(z);
+            hasHit = true;
         }
 
         //if it has not hit any zombie yet, it will continue moving
         if(!hasHit)
         {
             move(currentTime);
+
+            //cull the projectile once it is past the column zombies spawn in
+            if (getCol() > level.getCOLUMNS() + 1)
+                deactivate();
         }
     }
 
+    /** This method finds the zombie the projectile hits. The living
+     *  zombies of its row that are within range of attack are at the
+     *  start of the sorted row, and the one that entered the level first
+     *  is hit.
+     *
+     * @param level the level to check for zombies
+     * @return the zombie to be hit, or null if no zombie is within range
+     */
+    public Zombie findTarget(Level level)
+    {
+        ArrayList<Zombie> lane = level.getZombieIndex().getLane((int)getRow());
+        Zombie target = null;
+        int i;
+
+        for(i = 0; i < lane.size() && (lane.get(i).getCol() - getCol()) < 0.5; i++)
+        {
+            if(lane.get(i).isAlive() && (target == null || lane.get(i).getSpawnOrder() < target.getSpawnOrder()))
+                target = lane.get(i);
+        }
+
+        return target;
+    }
+
+    /** This method returns the earliest time the projectile can act
+     *  again, which is right away if it is already within range of a
+     *  zombie, or its next move otherwise.
+     *
+     * @param level the level to check for zombies
+     * @param currentTime the current time reference
+     * @return the time of the next action, or Integer.MAX_VALUE if it has hit
+     */
+    public int getNextActionTime(Level level, int currentTime)
+    {
+        if (hasHit)
+            return Integer.MAX_VALUE;
+
+        if (findTarget(level) != null)
+            return currentTime;
+
+        return getInternal_Time() + SimulationClock.SECOND;
+    }
+
     /** This method returns the damage output of a projectile
      *
      * @return the damage output of a projectile
@@ -118,6 +181,15 @@ public class Projectile extends GameElement{
         return hasHit;
     }
 
+    /** This method returns the column the projectile was at
+     *  before its last step.
+     *
+     * @return the column before the last step
+     */
+    public float getPreviousCol() {
+        return previousCol;
+    }
+
     /** This method sets the hit status of the projectile.
      *
      * @param s the current status of the projectile
@@ -131,4 +203,6 @@ public class Projectile extends GameElement{
     /**how fast the projectile moves once released */
     private float speed;
     private boolean hasHit;
+    /**the column the projectile was at before its last step */
+    private float previousCol;
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+/** This class stores the projectiles of a level by row. Each row holds
+ *  a fixed number of projectiles in the order they were fired, so the
+ *  memory used by projectiles stays the same no matter how long a level
+ *  is played. Projectiles that leave the board are culled by the level,
+ *  so a row only fills up when every tile of it is shooting at once.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class ProjectileLanes {
+    /** This constructor initializes an empty row of projectiles for each
+     *  row of the lawn.
+     *
+     * @param rows the number of rows of the lawn
+     * @param capacity the number of projectiles each row can hold
+     */
+    public ProjectileLanes(int rows, int capacity) {
+        lanes = new Projectile[rows][capacity];
+        counts = new int[rows];
+        size = 0;
+    }
+
+    /** This method checks if a row cannot hold any more projectiles.
+     *
+     * @param row the row to be checked
+     * @return true if the row is full, false otherwise
+     */
+    public boolean isFull(int row) {
+        return counts[row] == lanes[row].length;
+    }
+
+    /** This method adds a projectile at the end of its row.
+     *
+     * @param p the projectile to be added
+     * @return true if the projectile was added, false if its row is full
+     */
+    public boolean add(Projectile p) {
+        int row = (int)p.getRow();
+
+        if (isFull(row))
+            return false;
+
+        lanes[row][counts[row]++] = p;
+        size++;
+        return true;
+    }
+
+    /** This method removes a projectile from its row, keeping the
+     *  order of the remaining projectiles.
+     *
+     * @param row the row of the projectile
+     * @param i the index of the projectile in the row
+     * @return the removed projectile
+     */
+    public Projectile remove(int row, int i) {
+        Projectile[] lane = lanes[row];
+        Projectile p = lane[i];
+
+        System.arraycopy(lane, i + 1, lane, i, counts[row] - i - 1);
+        lane[--counts[row]] = null;
+        size--;
+
+        return p;
+    }
+
+    /** This method returns a projectile of a row.
+     *
+     * @param row the row of the projectile
+     * @param i the index of the projectile in the row
+     * @return the projectile
+     */
+    public Projectile get(int row, int i) {
+        return lanes[row][i];
+    }
+
+    /** This method returns the number of projectiles in a row.
+     *
+     * @param row the row to be counted
+     * @return the number of projectiles in the row
+     */
+    public int getCount(int row) {
+        return counts[row];
+    }
+
+    /** This method returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return lanes.length;
+    }
+
+    /** This method returns the number of projectiles in every row.
+     *
+     * @return the total number of projectiles
+     */
+    public int size() {
+        return size;
+    }
+
+    /** the projectiles of each row in the order they were fired*/
+    private Projectile[][] lanes;
+    /** the number of projectiles in each row*/
+    private int[] counts;
+    /** the total number of projectiles*/
+    private int size;
+}
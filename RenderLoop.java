@@ -0,0 +1,134 @@
+import javax.swing.Timer;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/** This class represents the loop that redraws the GUI while a level
+ *  is being shown. It runs a single task on the Swing thread at a target
+ *  frame rate, and can be started, paused, resumed and stopped as the
+ *  shown panel changes. Only one loop is ever made, so the cost of a
+ *  frame stays the same no matter how many levels have been played.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class RenderLoop implements ActionListener {
+    /** This constructor initializes the task to be ran on every frame
+     *  and the frame rate to run it at. The loop starts stopped.
+     *
+     * @param fps the target number of frames per second
+     * @param task the task drawing a single frame
+     */
+    public RenderLoop(int fps, Runnable task) {
+        TASK = task;
+        timer = new Timer(toDelay(fps), this);
+        timer.setCoalesce(true);
+        targetFps = fps;
+        paused = false;
+    }
+
+    /** This method runs the task of a single frame. It is called by the
+     *  timer of the loop.
+     *
+     * @param e the event of the timer
+     */
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        TASK.run();
+    }
+
+    /** This method starts the loop, or restarts it if it was paused.
+     *
+     */
+    public void start() {
+        paused = false;
+
+        if (!timer.isRunning())
+            timer.start();
+    }
+
+    /** This method pauses the loop until it is resumed. Nothing is
+     *  drawn while the loop is paused.
+     *
+     */
+    public void pause() {
+        if (timer.isRunning()) {
+            timer.stop();
+            paused = true;
+        }
+    }
+
+    /** This method resumes the loop if it was paused. A stopped loop
+     *  stays stopped.
+     *
+     */
+    public void resume() {
+        if (paused)
+            start();
+    }
+
+    /** This method stops the loop until it is started again.
+     *
+     */
+    public void stop() {
+        timer.stop();
+        paused = false;
+    }
+
+    /** This method checks if the loop is currently drawing frames.
+     *
+     * @return true if the loop is running, false if it is paused or stopped
+     */
+    public boolean isRunning() {
+        return timer.isRunning();
+    }
+
+    /** This method checks if the loop is paused.
+     *
+     * @return true if the loop is paused, false otherwise
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /** This method changes the target frame rate of the loop.
+     *
+     * @param fps the target number of frames per second
+     */
+    public void setTargetFps(int fps) {
+        targetFps = fps;
+        timer.setDelay(toDelay(fps));
+    }
+
+    /** This method returns the target frame rate of the loop.
+     *
+     * @return the target number of frames per second
+     */
+    public int getTargetFps() {
+        return targetFps;
+    }
+
+    /** This method converts a frame rate into the delay between frames.
+     *
+     * @param fps the number of frames per second
+     * @return the delay between frames in milliseconds
+     * @throws IllegalArgumentException if the frame rate is not positive
+     */
+    private static int toDelay(int fps) {
+        if (fps <= 0)
+            throw new IllegalArgumentException("Invalid frame rate: " + fps);
+
+        return Math.max(1, SimulationClock.SECOND / fps);
+    }
+
+    /** the default number of frames per second*/
+    public static final int DEFAULT_FPS = 50;
+    /** the task drawing a single frame*/
+    private final Runnable TASK;
+    /** the timer running the task*/
+    private Timer timer;
+    /** the target number of frames per second*/
+    private int targetFps;
+    /** dictates whether the loop is paused*/
+    private boolean paused;
+}
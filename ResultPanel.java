@@ -18,8 +18,10 @@ public class ResultPanel extends JPanel {
      * @param backLost the back button of the panel when the game is lost
      * @param next the next button of the panel
      * @param backWon the back button of the panel when the game is won
+     * @param a the loaded images of the game
      */
-    public ResultPanel (int width, int height, JButton retry, JButton backLost, JButton next, JButton backWon){
+    public ResultPanel (int width, int height, JButton retry, JButton backLost, JButton next, JButton backWon, AssetManager a){
+        assets = a;
         PANEL_WIDTH = width;
         PANEL_HEIGHT = height;
 
@@ -38,39 +40,28 @@ public class ResultPanel extends JPanel {
             g.drawRect(0,0,PANEL_WIDTH,PANEL_HEIGHT);
             g.fillRect(0,0,PANEL_WIDTH,PANEL_HEIGHT);
 
-            try {
-                ImageIcon message = new ImageIcon(getClass().getResource("/img/result/levelLost.png"));
+            ImageIcon message = assets.get(Asset.LEVEL_LOST);
+            if (message != null)
                 g.drawImage(message.getImage(), 200, 50, (int) (message.getIconWidth() / 1.5), (int) (message.getIconHeight() / 1.5), null);
-            } catch (Exception e) {
-                System.out.println(e.getMessage());
-            }
         }
         else if (messageShown > 0) { // if the level is won
-            try {
-                ImageIcon background = new ImageIcon(getClass().getResource("/img/lawn/lawnImg.png"));
+            ImageIcon background = assets.get(Asset.LAWN);
+            if (background != null)
                 g.drawImage(background.getImage(), 0, 0, PANEL_WIDTH, PANEL_HEIGHT, null);
-            } catch (Exception e) {
-                System.out.println(e.getMessage());
-            }
 
             // find the appropriate image for each level clear
-            try {
-                ImageIcon message;
+            ImageIcon message;
 
-                if (messageShown == 1)
-                    message = new ImageIcon(getClass().getResource("/img/result/levelWin1.png"));
-                else if (messageShown == 2)
-                    message = new ImageIcon(getClass().getResource("/img/result/levelWin2.png"));
-                else
-                    message = new ImageIcon(getClass().getResource("/img/result/levelWin3.png"));
+            if (messageShown == 1)
+                message = assets.get(Asset.LEVEL_WIN_1);
+            else if (messageShown == 2)
+                message = assets.get(Asset.LEVEL_WIN_2);
+            else
+                message = assets.get(Asset.LEVEL_WIN_3);
 
+            if (message != null)
                 g.drawImage(message.getImage(), 150, 50, (int) (message.getIconWidth()*1.5), (int) (message.getIconHeight()*1.5), null);
-            } catch (Exception e) {
-                System.out.println(e.getMessage());
-            }
         }
-
-        repaint();
     }
 
     /** This method initializes the winning and losing panels of the result panel and
@@ -151,6 +142,8 @@ public class ResultPanel extends JPanel {
             cardLayout.show(mainPanel, "level lost");
         else
             cardLayout.show(mainPanel, "level won");
+
+        repaint();
     }
 
     /** the card layout of the panel*/
@@ -167,4 +160,6 @@ public class ResultPanel extends JPanel {
     private final int PANEL_WIDTH;
     /** the panel height*/
     private final int PANEL_HEIGHT;
-}
\ No newline at end of file
+    /** the loaded images of the game*/
+    private AssetManager assets;
+}
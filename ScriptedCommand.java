@@ -0,0 +1,147 @@
+/** This class represents a player action that is scheduled
+ *  to happen at a certain time of a headless level, such as
+ *  placing a plant, shoveling a tile or collecting a sun. The
+ *  commands of a played level are logged in the same form, so a
+ *  game can be replayed headlessly.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class ScriptedCommand {
+    /** This constructor initializes the type of the command,
+     *  the time it will be executed, and the tile it targets.
+     *
+     * @param type the type of the command, either "plant", "shovel" or "collect"
+     * @param t the time of execution in milliseconds
+     * @param r the row of the targeted tile
+     * @param c the col of the targeted tile
+     * @param n the name of the plant to be placed, or null when shoveling
+     */
+    public ScriptedCommand(String type, int t, int r, int c, String n) {
+        TYPE = type;
+        TIME = t;
+        ROW = r;
+        COL = c;
+        PLANT_NAME = n;
+    }
+
+    /** This method parses a command written in the form
+     *  "plant:second:row:col:name", "shovel:second:row:col" or
+     *  "collect:second:row:col".
+     *  Underscores in plant names are read as spaces, so
+     *  "plant:5:2:0:snow_pea" places a snow pea at row 2 col 0
+     *  five seconds into the level.
+     *
+     * @param s the command to be parsed
+     * @return the parsed command
+     * @throws IllegalArgumentException if the command is malformed
+     */
+    public static ScriptedCommand parse(String s) {
+        String[] parts = s.split(":");
+
+        try {
+            if (parts.length == 5 && parts[0].equalsIgnoreCase("plant"))
+                return new ScriptedCommand("plant", (int)Math.round(Double.parseDouble(parts[1]) * SimulationClock.SECOND),
+                        Integer.parseInt(parts[2]), Integer.parseInt(parts[3]), parts[4].replace('_', ' '));
+            else if (parts.length == 4 && (parts[0].equalsIgnoreCase("shovel") || parts[0].equalsIgnoreCase("collect")))
+                return new ScriptedCommand(parts[0].toLowerCase(), (int)Math.round(Double.parseDouble(parts[1]) * SimulationClock.SECOND),
+                        Integer.parseInt(parts[2]), Integer.parseInt(parts[3]), null);
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+
+        throw new IllegalArgumentException("Invalid command: " + s);
+    }
+
+    /** This method executes the command on a level for the given player.
+     *
+     * @param l the level to be edited
+     * @param p the player executing the command
+     * @param currentTime the current time frame of the level
+     * @return true if the command changed the level, false otherwise
+     */
+    public boolean execute(Level l, Player p, int currentTime) {
+        if (TYPE.equals("plant"))
+            return p.plant(l, ROW, COL, PLANT_NAME, currentTime);
+        else if (TYPE.equals("collect"))
+            return p.collectSuns(l, ROW, COL);
+        else if (l.isValidCoordinate(ROW, COL) && l.getTiles()[ROW][COL] instanceof Plant) {
+            p.useShovel(l, ROW, COL);
+            return true;
+        }
+
+        return false;
+    }
+
+    /** This method checks if a command that failed to execute can
+     *  still be executed later on. This is the case when a plant could not
+     *  be placed yet because of its cooldown or the player's suns, but
+     *  its tile is still empty.
+     *
+     * @param l the level to be checked
+     * @return true if the command can be retried, false otherwise
+     */
+    public boolean canBeRetried(Level l) {
+        return TYPE.equals("plant") && l.canBePlaced(ROW, COL);
+    }
+
+    /** This method returns the earliest time a command that failed to
+     *  execute can succeed, as long as the player's suns do not change.
+     *  A plant can be placed once its cooldown is over, but only if the
+     *  player can already afford it.
+     *
+     * @param l the level to be checked
+     * @param p the player executing the command
+     * @return the time the command can succeed, or Integer.MAX_VALUE if it cannot yet
+     */
+    public int getRetryTime(Level l, Player p) {
+        PlantType type;
+        Cooldown cooldown;
+
+        if (!TYPE.equals("plant"))
+            return Integer.MAX_VALUE;
+
+        type = PlantRegistry.getDefault().get(PLANT_NAME);
+        cooldown = l.getCooldown(type);
+
+        if (cooldown == null || p.getSun() < type.getCost())
+            return Integer.MAX_VALUE;
+
+        return cooldown.getReadyTime();
+    }
+
+    /** This method returns the time the command is executed.
+     *
+     * @return the time of execution in milliseconds
+     */
+    public int getTime() {
+        return TIME;
+    }
+
+    /** This method returns the command in the same form it is parsed
+     *  from, so that it can be logged and replayed.
+     *
+     * @return the command as text
+     */
+    @Override
+    public String toString() {
+        String s = TYPE + ":" + (TIME / (double)SimulationClock.SECOND) + ":" + ROW + ":" + COL;
+
+        if (PLANT_NAME != null)
+            s += ":" + PLANT_NAME.replace(' ', '_');
+
+        return s;
+    }
+
+    /** the type of the command*/
+    private final String TYPE;
+    /** the time of execution*/
+    private final int TIME;
+    /** the row of the targeted tile*/
+    private final int ROW;
+    /** the col of the targeted tile*/
+    private final int COL;
+    /** the name of the plant to be placed*/
+    private final String PLANT_NAME;
+}
@@ -0,0 +1,153 @@
+import java.util.concurrent.locks.LockSupport;
+
+/** This class represents the fixed timestep clock of a running level.
+ *  The simulation advances in whole ticks at a configurable tick rate,
+ *  and the game time of every tick is given in milliseconds so that
+ *  timers shorter than a second can be represented. When paced against
+ *  the wall clock, any lag is stored in an accumulator and is paid back
+ *  with a bounded number of catch-up ticks.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class SimulationClock {
+    /** This constructor initializes the tick rate of the clock
+     *  and resets it to tick 0.
+     *
+     * @param rate the number of ticks per second
+     */
+    public SimulationClock(int rate) {
+        if (rate <= 0)
+            throw new IllegalArgumentException("Tick rate must be positive: " + rate);
+
+        TICK_RATE = rate;
+        STEP_NANOS = 1000000000L / rate;
+        reset();
+    }
+
+    /** This method resets the clock back to tick 0 and starts
+     *  measuring the wall clock from the current instant.
+     *
+     */
+    public void reset() {
+        tick = 0;
+        accumulator = 0;
+        lastNanos = System.nanoTime();
+    }
+
+    /** This method measures how much wall time has passed since
+     *  the last call and returns how many ticks are due to be simulated.
+     *  If the level has stalled, at most MAX_CATCH_UP_TICKS are returned
+     *  and the remaining lag is dropped.
+     *
+     * @return the number of ticks that should be simulated now
+     */
+    public int ticksDue() {
+        long now = System.nanoTime();
+        int due;
+
+        accumulator += now - lastNanos;
+        lastNanos = now;
+
+        due = (int)Math.min(accumulator / STEP_NANOS, MAX_CATCH_UP_TICKS);
+
+        // drop the lag that cannot be caught up on
+        if (due == MAX_CATCH_UP_TICKS)
+            accumulator = 0;
+        else
+            accumulator -= due * STEP_NANOS;
+
+        return due;
+    }
+
+    /** This method parks the calling thread until the next tick is due.
+     *  The thread is parked for the remaining time of the current step
+     *  instead of a fixed sleep, so ticks stay evenly spaced.
+     *
+     */
+    public void awaitNextTick() {
+        long remaining = STEP_NANOS - (accumulator + System.nanoTime() - lastNanos);
+
+        if (remaining > 0)
+            LockSupport.parkNanos(remaining);
+    }
+
+    /** This method advances the clock by exactly one tick.
+     *
+     */
+    public void advance() {
+        tick++;
+    }
+
+    /** This method moves the clock forward to a later tick, skipping the
+     *  ticks in between. This is used when nothing can happen in the
+     *  skipped ticks.
+     *
+     * @param t the tick to move to
+     */
+    public void advanceTo(long t) {
+        tick = Math.max(tick, t);
+    }
+
+    /** This method returns the first tick whose game time is at or after
+     *  a given time, which is the tick a timer due at that time acts on.
+     *
+     * @param time the game time in milliseconds
+     * @return the first tick at or after the given time
+     */
+    public long tickAt(int time) {
+        return ((long)time * TICK_RATE + SECOND - 1) / SECOND;
+    }
+
+    /** This method returns the number of ticks simulated so far.
+     *
+     * @return the current tick of the clock
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /** This method returns the game time of the current tick.
+     *
+     * @return the game time in milliseconds
+     */
+    public int getTime() {
+        return toTime(tick);
+    }
+
+    /** This method converts a tick into its game time. The conversion is
+     *  done from the tick count itself so rounding never accumulates.
+     *
+     * @param t the tick to be converted
+     * @return the game time of the tick in milliseconds
+     */
+    public int toTime(long t) {
+        return (int)(t * SECOND / TICK_RATE);
+    }
+
+    /** This method returns the tick rate of the clock.
+     *
+     * @return the number of ticks per second
+     */
+    public int getTickRate() {
+        return TICK_RATE;
+    }
+
+    /** the number of game time units in one second*/
+    public static final int SECOND = 1000;
+    /** the tick rate used when none is configured*/
+    public static final int DEFAULT_TICK_RATE = 60;
+    /** the maximum ticks simulated at once after a stall*/
+    public static final int MAX_CATCH_UP_TICKS = 5;
+    /** the number of ticks per second*/
+    private final int TICK_RATE;
+    /** the wall time of one tick in nanoseconds*/
+    private final long STEP_NANOS;
+    /** the number of ticks simulated so far*/
+    private long tick;
+    /** the wall time that has not been simulated yet*/
+    private long accumulator;
+    /** the wall time of the last measurement*/
+    private long lastNanos;
+}
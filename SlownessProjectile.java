@@ -1,5 +1,3 @@
-import java.util.ArrayList;
-
 /** The class SlownessProjectile represents a projectile fired by
  * a snow pea object. It is responsible for handling its
  * movement and dealing damage and slowness debuff to a zombie object.
@@ -50,30 +48,30 @@ public class SlownessProjectile extends Projectile{
      * moving. The current time reference is used to
      * know if the projectile should be updating or not.
      *
-     * @param enemies list of zombie objects
+     * @param level the level to check for zombies
      * @param currentTime the current time reference
      */
     @Override
-    public void update(ArrayList<Zombie> enemies, int currentTime)
+    public void update(Level level, int currentTime)
     {
-        int x;
+        //find the zombie within the same row that is within range of attack
+        Zombie z = findTarget(level);
 
-        //loops through the list of enemies within the same row
-        for(x = 0; x < enemies.size() && !getHitStatus(); x++)
+        //if projectile is within range of attack
+        if(!getHitStatus() && z != null && (z.getCol() - getCol()) < 0.5)
         {
-            //if zombie is alive and vulnerable and projectile is within range of attack
-            if(enemies.get(x).isAlive() && (enemies.get(x).getCol() - getCol()) < 0.5 && getRow() == enemies.get(x).getRow())
-            {
-                hit(enemies.get(x), currentTime);
-                setHitStatus(true);
-            }
-
+            hit(z, currentTime);
+            setHitStatus(true);
         }
 
         //if it has not hit any zombie yet, it will continue moving
         if(!getHitStatus())
         {
             move(currentTime);
+
+            //cull the projectile once it is past the column zombies spawn in
+            if (getCol() > level.getCOLUMNS() + 1)
+                deactivate();
         }
     }
 }
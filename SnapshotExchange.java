@@ -0,0 +1,70 @@
+import java.util.concurrent.atomic.AtomicReference;
+
+/** This class passes frame snapshots from the thread running a level to
+ *  the GUI without locks. It rotates three snapshots: one being written
+ *  by the level thread, one being read by the GUI, and the latest
+ *  finished one in between. Publishing and reading both swap with the
+ *  one in between, so neither thread ever waits for the other and the
+ *  GUI always reads a complete snapshot. A snapshot that is replaced
+ *  before the GUI reads it keeps its despawned IDs, and the next one
+ *  written into it adds to them, so no despawn is lost.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class SnapshotExchange {
+    /** This constructor initializes the three empty snapshots.
+     *
+     */
+    public SnapshotExchange() {
+        back = new FrameSnapshot();
+        front = new FrameSnapshot();
+        latest = new AtomicReference<>(new FrameSnapshot());
+    }
+
+    /** This method returns the snapshot to be filled in by the level
+     *  thread. It must only be called by the level thread.
+     *
+     * @return the snapshot to be written
+     */
+    public FrameSnapshot getBack() {
+        return back;
+    }
+
+    /** This method publishes the snapshot that was just filled in,
+     *  replacing any finished snapshot the GUI has not read yet.
+     *  It must only be called by the level thread.
+     *
+     */
+    public void publish() {
+        back.setFresh(true);
+        back = latest.getAndSet(back);
+
+        // only a snapshot the GUI has read can forget its despawns
+        if (!back.isFresh())
+            back.clearDespawned();
+    }
+
+    /** This method returns the latest finished snapshot. If nothing has
+     *  been published since the last call, the same snapshot is returned
+     *  again. It must only be called by the GUI.
+     *
+     * @return the latest snapshot
+     */
+    public FrameSnapshot acquire() {
+        if (latest.get().isFresh()) {
+            front = latest.getAndSet(front);
+            front.setFresh(false);
+        }
+
+        return front;
+    }
+
+    /** the snapshot being written by the level thread*/
+    private FrameSnapshot back;
+    /** the snapshot being read by the GUI*/
+    private FrameSnapshot front;
+    /** the latest finished snapshot*/
+    private AtomicReference<FrameSnapshot> latest;
+}
@@ -39,11 +39,11 @@ public class SnowPea extends Peashooter{
         //System.out.println("Pew!");
         if(isWithinDirectDamage(z.getCol()))
         {
-            level.getPeas().add(new SlownessProjectile(getRow(), getCol(), currentTime, getDirectDamage(), 1.5f));
+            level.fireSlownessProjectile(getRow(), getCol(), currentTime, getDirectDamage(), 1.5f);
         }
         else if (isWithinRange(z.getCol()))
         {
-            level.getPeas().add(new SlownessProjectile(getRow(), getCol(), currentTime, getDamage(), 1.5f));
+            level.fireSlownessProjectile(getRow(), getCol(), currentTime, getDamage(), 1.5f);
         }
     }
 }
@@ -0,0 +1,281 @@
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/** This class represents a file holding the decoded pixels of every image
+ *  of the game, so later launches do not have to inflate the PNG files
+ *  again. The file is memory-mapped when it is opened, and the pixels of
+ *  an image are copied out of it straight into the raster of a new image.
+ *  Each image is stored with a checksum of the PNG it was decoded from,
+ *  and is only used while that PNG has not changed.
+ *  The file of the archive only names the data file holding the pixels.
+ *  A new archive is written to a new data file, and the name is switched
+ *  over to it, so a data file that is still mapped is never replaced.
+ *  Data files that are no longer named are deleted once they can be.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class SpriteArchive {
+    /** This constructor initializes an archive kept in the given file.
+     *  Nothing is read until the archive is opened.
+     *
+     * @param f the file holding the archive
+     */
+    public SpriteArchive(File f) {
+        FILE = f;
+        data = null;
+        offsets = new HashMap<>();
+        checksums = new HashMap<>();
+        pixels = null;
+    }
+
+    /** This method maps the data file of the archive into memory and reads
+     *  the list of images inside it. A missing, outdated or damaged file is
+     *  treated as an empty archive.
+     *
+     */
+    public void open() {
+        FileChannel channel;
+        int count, i, length, w, h;
+        byte[] path;
+        String name;
+        long checksum;
+
+        offsets.clear();
+        checksums.clear();
+        pixels = null;
+        data = null;
+
+        if (!FILE.isFile())
+            return;
+
+        try {
+            data = readDataFile();
+            deleteUnusedDataFiles();
+
+            channel = FileChannel.open(data.toPath(), StandardOpenOption.READ);
+            try {
+                pixels = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } finally {
+                channel.close(); // the mapping stays valid after the channel is closed
+            }
+
+            if (pixels.getInt() != MAGIC || pixels.getInt() != VERSION)
+                throw new IOException("unknown format");
+
+            count = pixels.getInt();
+            for (i = 0; i < count; i++) {
+                length = pixels.getShort();
+                path = new byte[length];
+                pixels.get(path);
+                name = new String(path, StandardCharsets.UTF_8);
+                checksum = pixels.getLong();
+
+                checksums.put(name, checksum);
+                offsets.put(name, pixels.position());
+
+                w = pixels.getInt();
+                h = pixels.getInt();
+                pixels.position(pixels.position() + w * h * 4);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.out.println(FILE + " cannot be used: " + e.getMessage());
+            data = null;
+            offsets.clear();
+            checksums.clear();
+            pixels = null;
+        }
+    }
+
+    /** This method returns an image of the archive, as long as it was
+     *  decoded from the same PNG that is given.
+     *
+     * @param path the path of the image inside the image folder
+     * @param checksum the checksum of the PNG of the image
+     * @return the image, or null if it is missing or outdated
+     */
+    public BufferedImage get(String path, long checksum) {
+        Integer offset = offsets.get(path);
+        ByteBuffer view;
+        int w, h;
+        int[] data;
+
+        if (offset == null || checksums.get(path) != checksum)
+            return null;
+
+        // each caller reads through its own view, so images can be read in parallel
+        view = pixels.duplicate();
+        view.position(offset);
+        w = view.getInt();
+        h = view.getInt();
+        data = new int[w * h];
+        view.asIntBuffer().get(data);
+
+        return wrap(data, w, h);
+    }
+
+    /** This method checks if the archive was read from its file.
+     *
+     * @return true if the file was mapped, false otherwise
+     */
+    public boolean isOpen() {
+        return pixels != null;
+    }
+
+    /** This method writes a new archive holding the given images. The
+     *  images are written to a new data file, and the file of the archive
+     *  is switched over to it once it is complete, so a failed write never
+     *  leaves a damaged archive behind and the data file that may still be
+     *  mapped is left alone.
+     *
+     * @param paths the paths of the images inside the image folder
+     * @param images the images, in the same order as their paths
+     * @param sums the checksums of the PNG of each image
+     * @throws IOException if the archive cannot be written
+     */
+    public void save(ArrayList<String> paths, ArrayList<BufferedImage> images, ArrayList<Long> sums) throws IOException {
+        File next = new File(FILE.getPath() + "." + Long.toHexString(System.currentTimeMillis()));
+        File temp = new File(FILE.getPath() + ".tmp");
+        File old = data;
+        DataOutputStream out;
+        BufferedImage image;
+        byte[] path;
+        ByteBuffer bytes;
+        int[] row;
+        int i, y;
+
+        while (next.exists() || next.equals(old))
+            next = new File(next.getPath() + "0");
+
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(next), 1 << 16));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(paths.size());
+
+            for (i = 0; i < paths.size(); i++) {
+                image = images.get(i);
+                path = paths.get(i).getBytes(StandardCharsets.UTF_8);
+
+                out.writeShort(path.length);
+                out.write(path);
+                out.writeLong(sums.get(i));
+                out.writeInt(image.getWidth());
+                out.writeInt(image.getHeight());
+
+                row = new int[image.getWidth()];
+                bytes = ByteBuffer.allocate(row.length * 4);
+                for (y = 0; y < image.getHeight(); y++) {
+                    image.getRGB(0, y, row.length, 1, row, 0, row.length);
+                    bytes.clear();
+                    bytes.asIntBuffer().put(row);
+                    out.write(bytes.array());
+                }
+            }
+        } finally {
+            out.close();
+        }
+
+        // the name is small and never mapped, so it can always be replaced
+        Files.write(temp.toPath(), next.getName().getBytes(StandardCharsets.UTF_8));
+        Files.move(temp.toPath(), FILE.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        // the old data file is kept until the next launch if it is still mapped
+        offsets.clear();
+        checksums.clear();
+        pixels = null;
+        data = next;
+
+        if (old != null)
+            old.delete();
+    }
+
+    /** This method reads the name of the data file from the file of the
+     *  archive.
+     *
+     * @return the data file of the archive
+     * @throws IOException if the file of the archive cannot be read or does not name a data file
+     */
+    private File readDataFile() throws IOException {
+        String name;
+
+        if (FILE.length() > MAX_NAME_LENGTH)
+            throw new IOException("unknown format");
+
+        name = new String(Files.readAllBytes(FILE.toPath()), StandardCharsets.UTF_8).trim();
+        if (!name.startsWith(FILE.getName() + ".") || name.indexOf('/') >= 0 || name.indexOf('\\') >= 0)
+            throw new IOException("unknown format");
+
+        return new File(FILE.getAbsoluteFile().getParentFile(), name);
+    }
+
+    /** This method deletes the data files of earlier archives that were
+     *  left behind because they were still mapped when they were replaced.
+     *
+     */
+    private void deleteUnusedDataFiles() {
+        File[] files = FILE.getAbsoluteFile().getParentFile().listFiles();
+        String prefix = FILE.getName() + ".";
+        int i;
+
+        if (files == null)
+            return;
+
+        for (i = 0; i < files.length; i++)
+            if (files[i].getName().startsWith(prefix) && !files[i].getName().equals(prefix + "tmp")
+                    && !files[i].getName().equals(data.getName()))
+                files[i].delete();
+    }
+
+    /** This method wraps ARGB pixels into an image without copying them.
+     *
+     * @param data the pixels of the image, row by row
+     * @param w the width of the image
+     * @param h the height of the image
+     * @return the image drawing from the pixels
+     */
+    private static BufferedImage wrap(int[] data, int w, int h) {
+        WritableRaster raster = Raster.createPackedRaster(new DataBufferInt(data, data.length), w, h, w,
+                ARGB.getMasks(), null);
+
+        return new BufferedImage(ARGB, raster, false, null);
+    }
+
+    /** the first bytes of every archive*/
+    public static final int MAGIC = 0x50565A53;
+    /** the version of the format of the archive*/
+    public static final int VERSION = 1;
+    /** the color model of the stored pixels*/
+    private static final DirectColorModel ARGB = (DirectColorModel) ColorModel.getRGBdefault();
+    /** the longest name of a data file the file of the archive can hold*/
+    private static final int MAX_NAME_LENGTH = 4096;
+    /** the file naming the data file of the archive*/
+    private final File FILE;
+    /** the data file the archive was read from or last written to*/
+    private File data;
+    /** the position of each image inside the file*/
+    private HashMap<String, Integer> offsets;
+    /** the checksum of the PNG each image was decoded from*/
+    private HashMap<String, Long> checksums;
+    /** the mapped contents of the file*/
+    private MappedByteBuffer pixels;
+}
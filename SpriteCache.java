@@ -0,0 +1,135 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import javax.swing.ImageIcon;
+
+/** This class keeps copies of the images of the lawn that are already
+ *  scaled to the size they are drawn at and stored in the format of the
+ *  screen. Drawing a cached sprite is then a plain copy instead of a
+ *  rescale of the original image on every frame. Sprites with a tint,
+ *  such as slowed zombies, are cached with the tint already applied.
+ *  Each image is expected to be drawn at a single size, so a sprite is
+ *  only made again when that size or the screen changes.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class SpriteCache {
+    /** This constructor initializes an empty cache.
+     *
+     */
+    public SpriteCache() {
+        sprites = new HashMap<>();
+        slowedSprites = new HashMap<>();
+        config = null;
+    }
+
+    /** This method makes sure the cached sprites match the screen they
+     *  are drawn on. If the screen has changed, every sprite is dropped
+     *  and made again when it is next needed.
+     *
+     * @param gc the configuration of the screen being drawn on
+     */
+    public void validate(GraphicsConfiguration gc) {
+        if (gc != config) {
+            clear();
+            config = gc;
+        }
+    }
+
+    /** This method returns the sprite of an image at the given size.
+     *
+     * @param icon the image of the sprite
+     * @param w the width the sprite is drawn at
+     * @param h the height the sprite is drawn at
+     * @return the scaled sprite
+     */
+    public BufferedImage get(ImageIcon icon, int w, int h) {
+        BufferedImage sprite = sprites.get(icon.getImage());
+
+        if (sprite == null || sprite.getWidth() != w || sprite.getHeight() != h) {
+            sprite = render(icon.getImage(), w, h, null);
+            sprites.put(icon.getImage(), sprite);
+        }
+
+        return sprite;
+    }
+
+    /** This method returns the sprite of an image at the given size,
+     *  covered with the tint of a slowed zombie.
+     *
+     * @param icon the image of the sprite
+     * @param w the width the sprite is drawn at
+     * @param h the height the sprite is drawn at
+     * @return the scaled and tinted sprite
+     */
+    public BufferedImage getSlowed(ImageIcon icon, int w, int h) {
+        BufferedImage sprite = slowedSprites.get(icon.getImage());
+
+        if (sprite == null || sprite.getWidth() != w || sprite.getHeight() != h) {
+            sprite = render(icon.getImage(), w, h, SLOWED_TINT);
+            slowedSprites.put(icon.getImage(), sprite);
+        }
+
+        return sprite;
+    }
+
+    /** This method drops every cached sprite.
+     *
+     */
+    public void clear() {
+        sprites.clear();
+        slowedSprites.clear();
+    }
+
+    /** This method returns the number of cached sprites.
+     *
+     * @return the number of cached sprites
+     */
+    public int size() {
+        return sprites.size() + slowedSprites.size();
+    }
+
+    /** This method draws an image into a new sprite of the given size.
+     *
+     * @param image the image to be drawn
+     * @param w the width of the sprite
+     * @param h the height of the sprite
+     * @param tint the color covering the sprite, or null if there is none
+     * @return the new sprite
+     */
+    private BufferedImage render(Image image, int w, int h, Color tint) {
+        BufferedImage sprite;
+        Graphics2D g;
+
+        w = Math.max(1, w);
+        h = Math.max(1, h);
+
+        if (config != null)
+            sprite = config.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+        else
+            sprite = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+
+        g = sprite.createGraphics();
+        g.drawImage(image, 0, 0, w, h, null);
+
+        if (tint != null) {
+            g.setColor(tint);
+            g.fillRect(0, 0, w, h);
+        }
+
+        g.dispose();
+
+        return sprite;
+    }
+
+    /** the tint of a slowed zombie*/
+    public static final Color SLOWED_TINT = new Color(0, 0, 255, 50);
+    /** the sprites of each image*/
+    private HashMap<Image, BufferedImage> sprites;
+    /** the tinted sprites of each image of a slowed zombie*/
+    private HashMap<Image, BufferedImage> slowedSprites;
+    /** the configuration of the screen the sprites are made for*/
+    private GraphicsConfiguration config;
+}
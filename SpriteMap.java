@@ -0,0 +1,191 @@
+import java.util.Arrays;
+import javax.swing.ImageIcon;
+
+/** This class keeps the sprites of the GUI by the ID of what they show.
+ *  The sprites are stored next to each other so they can be drawn in
+ *  one pass, and the index of each ID points to where its sprite is, so
+ *  finding, adding and removing a sprite never has to search. A removed
+ *  sprite is swapped with the last one. The sprites are updated once per
+ *  frame, and any sprite that was not updated is dropped at the end of
+ *  the frame, in case the despawn of its owner was missed.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class SpriteMap {
+    /** This constructor initializes an empty map.
+     *
+     */
+    public SpriteMap() {
+        positions = new int[64];
+        Arrays.fill(positions, -1);
+        ids = new int[16];
+        sprites = new GameImage[16];
+        stamps = new int[16];
+        size = 0;
+        frame = 0;
+    }
+
+    /** This method starts a new frame. Sprites that are not placed again
+     *  before the frame ends are dropped.
+     *
+     */
+    public void beginFrame() {
+        frame++;
+    }
+
+    /** This method places the sprite of an ID, reusing the sprite it had
+     *  in the previous frame if there is one. If the index of the ID still
+     *  holds the sprite of an older ID, that sprite is dropped first. The
+     *  image of the sprite is only changed when the given sprite state is
+     *  different from the one it was last placed with.
+     *
+     * @param id the ID of what the sprite shows
+     * @param state the sprite state of what the sprite shows
+     * @param icons the image of each sprite state
+     * @param x the x coordinate of the sprite
+     * @param y the y coordinate of the sprite
+     * @return the placed sprite
+     */
+    public GameImage place(int id, int state, ImageIcon[] icons, double x, double y) {
+        int index = EntityIds.indexOf(id);
+        int position;
+        GameImage sprite;
+
+        if (index >= positions.length) {
+            position = positions.length;
+            positions = Arrays.copyOf(positions, Math.max(index + 1, position * 2));
+            Arrays.fill(positions, position, positions.length, -1);
+        }
+
+        position = positions[index];
+        if (position >= 0 && ids[position] != id) {
+            removeAt(position);
+            position = -1;
+        }
+
+        if (position >= 0) {
+            sprite = sprites[position];
+            sprite.setPixelX(x);
+            sprite.setPixelY(y);
+        }
+        else {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                sprites = Arrays.copyOf(sprites, size * 2);
+                stamps = Arrays.copyOf(stamps, size * 2);
+            }
+
+            position = size++;
+            sprite = new GameImage(null, x, y);
+            ids[position] = id;
+            sprites[position] = sprite;
+            positions[index] = position;
+        }
+
+        if (sprite.getState() != state) {
+            sprite.setImageIcon(icons[state]);
+            sprite.setState(state);
+        }
+
+        stamps[position] = frame;
+        return sprite;
+    }
+
+    /** This method ends the current frame, dropping every sprite that was
+     *  not placed during it.
+     *
+     */
+    public void endFrame() {
+        int i;
+
+        for (i = size - 1; i >= 0; i--)
+            if (stamps[i] != frame)
+                removeAt(i);
+    }
+
+    /** This method removes the sprite of an ID. IDs without a sprite are ignored.
+     *
+     * @param id the ID of what the sprite shows
+     */
+    public void remove(int id) {
+        int index = EntityIds.indexOf(id);
+
+        if (id >= 0 && index < positions.length && positions[index] >= 0 && ids[positions[index]] == id)
+            removeAt(positions[index]);
+    }
+
+    /** This method returns the sprite of an ID.
+     *
+     * @param id the ID of what the sprite shows
+     * @return the sprite, or null if the ID has none
+     */
+    public GameImage find(int id) {
+        int index = EntityIds.indexOf(id);
+
+        if (id >= 0 && index < positions.length && positions[index] >= 0 && ids[positions[index]] == id)
+            return sprites[positions[index]];
+
+        return null;
+    }
+
+    /** This method returns the i-th sprite, for drawing every sprite in order.
+     *
+     * @param i the position of the sprite, from 0 to size() - 1
+     * @return the sprite
+     */
+    public GameImage get(int i) {
+        return sprites[i];
+    }
+
+    /** This method returns the number of sprites.
+     *
+     * @return the number of sprites
+     */
+    public int size() {
+        return size;
+    }
+
+    /** This method removes every sprite.
+     *
+     */
+    public void clear() {
+        while (size > 0)
+            removeAt(size - 1);
+    }
+
+    /** This method removes the sprite at a position by moving the last
+     *  sprite into its place.
+     *
+     * @param position the position of the sprite to be removed
+     */
+    private void removeAt(int position) {
+        int last = size - 1;
+
+        positions[EntityIds.indexOf(ids[position])] = -1;
+
+        if (position != last) {
+            ids[position] = ids[last];
+            sprites[position] = sprites[last];
+            stamps[position] = stamps[last];
+            positions[EntityIds.indexOf(ids[position])] = position;
+        }
+
+        sprites[last] = null;
+        size--;
+    }
+
+    /** the position of the sprite of each index, or -1 if it has none*/
+    private int[] positions;
+    /** the ID of each sprite*/
+    private int[] ids;
+    /** the sprites*/
+    private GameImage[] sprites;
+    /** the frame each sprite was last placed in*/
+    private int[] stamps;
+    /** the number of sprites*/
+    private int size;
+    /** the current frame*/
+    private int frame;
+}
@@ -20,6 +20,20 @@ public class Sun extends GameElement {
         spawnTime = -888;
     }
 
+    /** This method resets a sun that is being reused
+     *  so that it appears again in a new position.
+     *
+     * @param row the row coordinate of the sun
+     * @param col the col coordinate of the sun
+     * @param time time of creation
+     */
+    @Override
+    public void reset(float row, float col, int time)
+    {
+        super.reset(row, col, time);
+        spawnTime = -888;
+    }
+
     /** This is essentially the behavior method of the sun.
      *  It updates its current position and state.
      *
@@ -43,6 +57,20 @@ public class Sun extends GameElement {
         }
     }
 
+    /** This method returns the time the sun disappears, or the current
+     *  time if it has not landed yet.
+     *
+     * @param currentTime the current time of the game
+     * @return the time of the next update of the sun
+     */
+    public int getNextActionTime(int currentTime)
+    {
+        if (spawnTime >= 0)
+            return spawnTime + LIFETIME;
+
+        return currentTime;
+    }
+
     /** This method returns the value of the sun object.
      *
      * @return the value of the sun object
@@ -61,35 +89,10 @@ public class Sun extends GameElement {
         return spawnTime;
     }
 
-    /** This method returns the sun object count.
-     *
-     * @return the sun object count
-     */
-    public static int getCount() {
-        return count;
-    }
-
-    /** This method decrements the sun object count
-     *
-     */
-    public static void despawn() {
-        count--;
-    }
-
-    /** This method sets a number to the sun object count
-     *
-     * @param s the number of suns present
-     */
-    public static void setCount(int s) {
-        count = s;
-    }
-
     /**the value of the sun*/
     private final int AMOUNT = 25;
     /**the uptime of the sun object*/
-    private final int LIFETIME = 10;
+    private final int LIFETIME = 10 * SimulationClock.SECOND;
     /**the time when the sun landed*/
     private int spawnTime;
-    /**the amount of sun objects created*/
-    private static int count = 0;
-}
\ No newline at end of file
+}
\ No newline at end of file
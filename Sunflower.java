@@ -50,11 +50,24 @@ public class Sunflower extends Plant{
    public void plantBehavior(Level level, int currentTime)
    {
     
-       if (currentTime - getInternal_time() >= getSpeed()) {
-           level.getSuns().add(new Sun(getRow(), getCol(), currentTime));
+       if (currentTime - getInternal_time() >= getSpeed() * SimulationClock.SECOND) {
+           level.produceSun(getRow(), getCol(), currentTime);
            level.setUnclaimed_suns(level.getUnclaimed_suns() + 25);
            setInternal_time(currentTime);
-           System.out.println("Sunflower has produced sun!");
+           if (level.isLogging())
+               System.out.println("Sunflower has produced sun!");
        }
    }
+
+    /** This method returns the time the Sunflower produces its next sun.
+     *
+     * @param level the level to be checked
+     * @param currentTime the current time of the game
+     * @return the time of the next sun
+     */
+    @Override
+    public int getNextActionTime(Level level, int currentTime)
+    {
+        return getInternal_time() + getSpeed() * SimulationClock.SECOND;
+    }
 }
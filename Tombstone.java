@@ -1,3 +1,5 @@
+import java.util.SplittableRandom;
+
 /**
  * This class represents the Tombstone entity of the game.
  * This spawns a random variant zombie at the end of the wave
@@ -21,19 +23,21 @@ public class Tombstone extends Entity {
     /** This method spawns a random zombie with a set probability of being a variant zombies
      *  in its occupied tile.
      *
+     * @param level the level whose pooled zombies are reused
      * @param currentTime the current time frame of the game
-     * @return the newly created zombie
+     * @param random the level's random stream of zombie types
+     * @return the spawned zombie
      */
-    public Zombie spawn(int currentTime) {
-        float x = (float)Math.random();
+    public Zombie spawn(Level level, int currentTime, SplittableRandom random) {
+        float x = (float)random.nextDouble();
 
         if (x > .5f)
-            return new Zombie((int)getRow(), (int)getCol(), currentTime);
+            return level.obtainZombie(Zombie.BASIC, (int)getRow(), (int)getCol(), currentTime);
         else if (x >= .3f)
-            return new ConeheadZombie((int)getRow(), (int)getCol(), currentTime);
+            return level.obtainZombie(Zombie.CONEHEAD, (int)getRow(), (int)getCol(), currentTime);
         else if (x >= .15f)
-            return new BucketheadZombie((int)getRow(), (int)getCol(), currentTime);
+            return level.obtainZombie(Zombie.BUCKETHEAD, (int)getRow(), (int)getCol(), currentTime);
         else
-            return new PolevaulterZombie((int)getRow(), (int)getCol(), currentTime);
+            return level.obtainZombie(Zombie.POLEVAULTER, (int)getRow(), (int)getCol(), currentTime);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ import java.awt.*;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
+import java.awt.event.WindowListener;
 
 /** The class View represents the main GUI handler of the game.
  *
@@ -42,12 +43,16 @@ public class View extends JFrame {
         backWon = new JButton("Back");
         next = new JButton("Next");
 
+        // images
+        assets = new AssetManager();
+        assets.load();
+
         // panels
         cardLayout = new CardLayout();
         currentPanel = new JPanel(cardLayout);
-        menu = new MenuPanel(WIDTH, HEIGHT, start, quit);
-        lawn = new LawnPanel(WIDTH, HEIGHT, forfeit);
-        result = new ResultPanel(WIDTH, HEIGHT, retry, backLost, next, backWon);
+        menu = new MenuPanel(WIDTH, HEIGHT, start, quit, assets);
+        lawn = new LawnPanel(WIDTH, HEIGHT, forfeit, assets);
+        result = new ResultPanel(WIDTH, HEIGHT, retry, backLost, next, backWon, assets);
 
         // add panels
         currentPanel.add(menu, "menu");
@@ -109,6 +114,19 @@ public class View extends JFrame {
     public void setMouseListener(MouseListener listener)
     {
         lawn.addMouseListener(listener);
+
+        // the canvas covers the lawn, so it receives the clicks instead
+        if (lawn.getCanvas() != null)
+            lawn.getCanvas().addMouseListener(listener);
+    }
+
+    /** This method listens for changes to the state of the window
+     *  and connects them to the controller via listener.
+     *
+     * @param listener the listener observing the window
+     */
+    public void setWindowListener(WindowListener listener) {
+        addWindowListener(listener);
     }
 
     /** This method listens for mouse movements inside the Lawn Panel
@@ -118,6 +136,9 @@ public class View extends JFrame {
      */
     public void setMouseMotionListener(MouseMotionListener listener) {
         lawn.addMouseMotionListener(listener);
+
+        if (lawn.getCanvas() != null)
+            lawn.getCanvas().addMouseMotionListener(listener);
     }
 
     /** This method returns the Lawn Panel of the View.
@@ -138,6 +159,14 @@ public class View extends JFrame {
         return result;
     }
 
+    /** This method returns the images loaded by the View.
+     *
+     * @return the loaded images of the game
+     */
+    public AssetManager getAssets() {
+        return assets;
+    }
+
     /** the start button used by the View */
     private JButton start;
     /** the quit button used by the View */
@@ -162,6 +191,8 @@ public class View extends JFrame {
     private LawnPanel lawn;
     /** the Game Over panel of the View */
     private ResultPanel result;
+    /** the loaded images of the View */
+    private AssetManager assets;
     /** the dimensions of the main JFrame */
     private static final int WIDTH = 800, HEIGHT = 600;
 }
@@ -53,4 +53,28 @@ public class Wallnut extends Plant{
         else
             return 2;
     }
+
+    /** This method updates the health of the wallnut, and its health
+     *  stage along with it.
+     *
+     * @param h the new health of the wallnut
+     */
+    @Override
+    public void setHealth(int h) {
+        super.setHealth(h);
+        stage = (byte)checkHealthState();
+    }
+
+    /** This method returns the health stage of the wallnut, which
+     *  decides how cracked it looks.
+     *
+     * @return the health stage, as given by checkHealthState()
+     */
+    @Override
+    public byte getSpriteState() {
+        return stage;
+    }
+
+    /** the health stage of the wallnut*/
+    private byte stage;
 }
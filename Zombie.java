@@ -13,40 +13,90 @@ public class Zombie extends Entity {
      *  track whether to do the action or not. This constructor
      *  can also be used by variant zombies that will not be holding
      *  any items. By default, a zombie is vulnerable, meaning it can be
-     *  damaged. This also increments the static variable
-     *  "count" by 1.
+     *  damaged.
      *
      *  @param r the row grid position of the Zombie
      *  @param c the col grid position of the zombie
      *  @param t the time of creation
      */
     public Zombie(int r, int c, int t) {
-        super(70, 4,10, r, c, t);
-        held_item = null;
-        slowed = false;
-        isEating = false;
-
-        count++;
+        this(r, c, t, ZombieType.get(BASIC));
     }
 
-    /** This constructor is made for the variant zombies that will
-     *  be holding items. This places them into a specific row and col
+    /** This constructor is made for the variant zombies, which
+     *  may be holding items. This places them into a specific row and col
      *  and initializes their internal clock to keep track of their action
-     *  timer. By default, the zombie is vulnerable, meaning it can be
-     *  damaged. This also increments the static variable "count" by 1.
+     *  timer. The zombie spawns with the item of its kind, if it has one.
+     *  By default, the zombie is vulnerable, meaning it can be damaged.
      *
      * @param r the row grid position of the Zombie
      * @param c the col grid position of the Zombie
      * @param t the time of creation
-     * @param i the held item of the Zombie
+     * @param k the kind of the Zombie
      */
-    public Zombie (int r, int c, int t, Item i) {
-        super(70, 4, 10, r, c, t);
-        held_item = i;
+    public Zombie (int r, int c, int t, ZombieType k) {
+        super(HEALTH, ZombieType.SPEED, ZombieType.DAMAGE, r, c, t);
+        type = k;
+        hasItem = type.hasItem();
+        itemDurability = type.getItemDurability();
         slowed = false;
         isEating = false;
+        previousCol = c;
+    }
+
+    /** This method creates a new zombie of the given kind.
+     *
+     * @param kind the kind of zombie, such as CONEHEAD
+     * @param r the row grid position of the zombie
+     * @param c the col grid position of the zombie
+     * @param t the time of creation
+     * @return the created zombie
+     */
+    public static Zombie create(int kind, int r, int c, int t) {
+        switch (kind) {
+            case FLAG: return new FlagZombie(r, c, t);
+            case CONEHEAD: return new ConeheadZombie(r, c, t);
+            case BUCKETHEAD: return new BucketheadZombie(r, c, t);
+            case POLEVAULTER: return new PolevaulterZombie(r, c, t);
+            default: return new Zombie(r, c, t);
+        }
+    }
+
+    /** This method returns the kind of the zombie, which decides
+     *  which pool it is returned to once it has died.
+     *
+     * @return the kind of the zombie
+     */
+    public final int getKind() {
+        return type.getKind();
+    }
 
-        count++;
+    /** This method returns the stats shared by every zombie of this kind.
+     *
+     * @return the kind of zombie
+     */
+    public final ZombieType getType() {
+        return type;
+    }
+
+    /** This method resets a zombie that is being reused so that it
+     *  spawns again with full health and its starting item.
+     *
+     * @param r the row grid position of the zombie
+     * @param c the col grid position of the zombie
+     * @param t the time it spawns again
+     */
+    public void reset(int r, int c, int t) {
+        setHealth(HEALTH);
+        setRow(r);
+        setCol(c);
+        setPreviousCol(c);
+        setInternal_time(t);
+        slowed = false;
+        slowedStart = 0;
+        isEating = false;
+        hasItem = type.hasItem();
+        itemDurability = type.getItemDurability();
     }
 
     /** This method subtracts the health of a zombie if
@@ -59,17 +109,17 @@ public class Zombie extends Entity {
     @Override
     public void takeDamage(int d) {
         // check if it has a breakable item
-        if (held_item != null && held_item.isBreakable()) {
-            held_item.takeDamage(d);
+        if (type.isArmored() && hasItem()) {
+            setItemDurability(getItemDurability() - d);
 
             // if the held item's durability is less than or equal to 0, subtract the underflow to zombie's current health and delete it
-            if (held_item.getDurability() <= 0) {
-                int underflow = -held_item.getDurability();
+            if (getItemDurability() <= 0) {
+                int underflow = -getItemDurability();
                 int cur = getHealth();
                 cur -= underflow;
                 setHealth(cur);
 
-                held_item = null;
+                dropItem();
             }
         }
         // otherwise, just damage it directly
@@ -95,22 +145,18 @@ public class Zombie extends Entity {
     }
 
     /** This method moves the Zombie to the left of the
-     *  lawn at speed variable seconds per grid.
+     *  lawn by the step of its kind.
      */
     public void walk() {
         float cur = getCol();
-        int speedChange = 0;
 
-        if (held_item != null)
-            speedChange = held_item.getSpeedChange();
+        // remember where the step started so it can be drawn smoothly
+        setPreviousCol(cur);
 
-        if (!slowed)
-            cur -= (float) (1.0 / (getSpeed() - speedChange));
-        else
-            cur -= (float) (1.0 / ((getSpeed() - speedChange) * 2));
+        cur -= type.getStep(hasItem(), isSlowed());
 
         setCol(cur);
-        isEating = false;
+        setEating(false);
     }
 
     /** This method makes the zombie eat the plant that is
@@ -120,77 +166,95 @@ public class Zombie extends Entity {
      */
     public void eat(Entity p) {
         //System.out.println("Eating " + p.getName() + ": " + p.getHealth());
-        int damageChange = 0;
+        p.takeDamage(type.getBite(hasItem()));
+        setEating(true);
+    }
 
-        if (held_item != null)
-            damageChange = held_item.getDamageChange();
+    /** This method makes the zombie eat the plant that is
+     *  in front of it, and queues the plant for removal
+     *  if it has been eaten completely.
+     *
+     *  @param p the target plant object to be damaged
+     *  @param level the level the plant is in
+     */
+    public void eat(Entity p, Level level) {
+        eat(p);
 
-        p.takeDamage(getDamage() + damageChange);
-        isEating = true;
+        if (!p.isAlive())
+            level.markDead(p);
     }
 
     /** This method compiles basic action methods
      *  of a zombie and turns it into a behaviour.
      *
-     * @param plants the plant row to be checked
+     * @param level the level the zombie is in
      * @param currentTime the current time reference of the game
      */
-    public void behaviour(Entity[] plants, int currentTime) {
+    public void behaviour(Level level, int currentTime) {
+        Entity front;
+
         // check if the zombie is slowed or not
         defrost(currentTime);
 
         // while zombie isn't in the house and still alive
         if (!this.isAtHouse() && this.isAlive()) {
+            front = findFront(level);
+
             // if zombie is still not within attack range or there isn't any plants in front
-            if (findFront(plants) == null || getCol() - findFront(plants).getCol() > 0.5) {
-                if (currentTime - getInternal_time() >= 1) { // zombie should walk at a certain rate
+            if (front == null || getCol() - front.getCol() > 0.5) {
+                if (currentTime - getInternal_time() >= ZombieType.WALK_INTERVAL) { // zombie should walk at a certain rate
                     walk();
                     setInternal_time(currentTime);
                 }
             }
-            // else if a plant is in front of zombie
-            else if (findFront(plants).isAlive()) {
-                // case 1: if not slowed
-                if (!slowed && currentTime - getInternal_time() >= 0.5) { // zombie should eat at a certain rate
-                    eat(findFront(plants));
-                    setInternal_time(currentTime);
-                    //System.out.println("Damaged " + findFront(plants).getName() + " at (" + findFront(plants).getRow() + ", " + findFront(plants).getCol() + ")");
-                }
-                // case 2: if slowed
-                else if (slowed && currentTime - getInternal_time() >= 3) {
-                    eat(findFront(plants));
-                    setInternal_time(currentTime);
-                }
+            // else if a plant is in front of zombie, eat it at a rate that depends on if it is slowed
+            else if (front.isAlive() && currentTime - getInternal_time() >= type.getEatInterval(isSlowed())) {
+                eat(front, level);
+                setInternal_time(currentTime);
+                //System.out.println("Damaged " + front.getName() + " at (" + front.getRow() + ", " + front.getCol() + ")");
             }
         }
     }
 
+    /** This method returns the earliest time the zombie can act again,
+     *  which is either its next step or its next bite of the plant in
+     *  front of it, as long as nothing else in the level changes first.
+     *
+     * @param level the level the zombie is in
+     * @param currentTime the current time reference of the game
+     * @return the time of the next action, or Integer.MAX_VALUE if the zombie cannot act
+     */
+    public int getNextActionTime(Level level, int currentTime) {
+        Entity front;
+
+        if (this.isAtHouse() || !this.isAlive())
+            return Integer.MAX_VALUE;
+
+        front = findFront(level);
+
+        if (front == null || getCol() - front.getCol() > 0.5)
+            return getInternal_time() + ZombieType.WALK_INTERVAL;
+        else if (front.isAlive())
+            return getInternal_time() + type.getEatInterval(isSlowed());
+        else
+            return Integer.MAX_VALUE;
+    }
+
     /** This method finds the nearest plant that is facing the zombie.
      *  If there are no plants found that is in front of the zombie,
      *  then this method will return null.
      *
-     *  @param plants the row of plants to be checked
+     *  @param level the level the zombie is in
      *  @return the nearest plant in front of the zombie if there is one,
      *  else return null
      */
-    public Entity findFront(Entity[] plants) {
-        int column = -1;
-        float smallestDistance = 999;
-        int i;
-
-        for (i = 0; i < plants.length; i++) {
-            // check plants that are only in front of zombie's current pos
-            if (plants[i] != null && plants[i] instanceof Plant && plants[i].getCol() <= (int)getCol()) {
-                if (getCol() - plants[i].getCol() < smallestDistance) {
-                    smallestDistance = getCol() - plants[i].getCol();
-                    column = i;
-                    //System.out.println("front plant " + plants[column].getCol());
-                }
-            }
-        }
+    public Entity findFront(Level level) {
+        int row = (int)getRow();
+        // the nearest plant is the highest occupied column at or before the zombie's tile
+        int column = level.getPlantOccupancy().findAtOrBefore(row, (int)getCol());
 
         if (column != -1)
-            return plants[column];
+            return level.getTiles()[row][column];
         else
             return null;
     }
@@ -201,38 +265,56 @@ public class Zombie extends Entity {
      * @param t the current time frame of the game
      */
     public void defrost(int t) {
-        if (slowed && t - slowedStart >= 10)
-            slowed = false;
+        if (isSlowed() && t - getSlowedStart() >= ZombieType.SLOW_DURATION)
+            setSlowed(false);
     }
 
-    /** This method returns the current Zombie counts.
+    /** This method returns the time the zombie stops being slowed.
      *
-     *  @return the number of Zombie objects created
+     * @return the time the zombie is defrosted, or Integer.MAX_VALUE if it is not slowed
      */
-    public static int getCount() {
-        return count;
+    public int getDefrostTime() {
+        if (isSlowed())
+            return getSlowedStart() + ZombieType.SLOW_DURATION;
+        else
+            return Integer.MAX_VALUE;
     }
 
-    /** This method decrements the count of Zombie objects by one.
+    /** This method returns the state of the zombie that decides how it
+     *  looks, as a set of STATE flags. The flags only change when the
+     *  zombie starts or stops eating, loses its item, or is slowed or
+     *  unslowed.
+     *
+     * @return the STATE flags of the zombie
      */
-    public static void die() {
-        count--;
+    @Override
+    public byte getSpriteState() {
+        byte state = 0;
+
+        if (isSlowed())
+            state |= STATE_SLOWED;
+        if (getIsEating())
+            state |= STATE_EATING;
+        if (hasItem())
+            state |= STATE_HAS_ITEM;
+
+        return state;
     }
 
-    /** This method returns the held item of the zombie.
+    /** This method checks if the zombie still holds the item of its kind.
      *
-     * @return the held item of the zombie
+     * @return true if the zombie holds its item, false otherwise
      */
-    public Item getHeld_item() {
-        return held_item;
+    public boolean hasItem() {
+        return hasItem;
     }
 
-    /** This method sets the held item of the zombie.
+    /** This method makes the zombie lose its item, such as when it
+     *  breaks or has been used.
      *
-     * @param i the item to be held by a zombie
      */
-    public void setHeld_item(Item i) {
-        held_item = i;
+    public void dropItem() {
+        hasItem = false;
     }
 
     /** This method checks if the zombie is slowed or not.
@@ -261,6 +343,15 @@ public class Zombie extends Entity {
         slowedStart = t;
     }
 
+    /** This method returns the starting time of when
+     *  a zombie was slowed down.
+     *
+     * @return the time the zombie was slowed down
+     */
+    public int getSlowedStart() {
+        return slowedStart;
+    }
+
     /** This method checks if the zombie is currently eating
      *  a plant or not.
      *
@@ -271,15 +362,104 @@ public class Zombie extends Entity {
         return isEating;
     }
 
+    /** This method sets whether the zombie is currently eating
+     *  a plant or not.
+     *
+     * @param e true if the zombie is eating, false otherwise
+     */
+    public void setEating(boolean e) {
+        isEating = e;
+    }
+
+    /** This method returns the column the zombie was at before its
+     *  last step.
+     *
+     * @return the column before the last step
+     */
+    public float getPreviousCol() {
+        return previousCol;
+    }
+
+    /** This method updates the column the zombie was at before its
+     *  last step.
+     *
+     * @param c the column before the last step
+     */
+    public void setPreviousCol(float c) {
+        previousCol = c;
+    }
+
+    /** This method returns the position of the zombie among the zombies
+     *  added to its level, which is also its order in the list of enemies.
+     *
+     * @return the number of zombies added to the level before this one
+     */
+    public int getSpawnOrder() {
+        return spawnOrder;
+    }
+
+    /** This method sets the position of the zombie among the zombies
+     *  added to its level.
+     *
+     * @param o the number of zombies added to the level before this one
+     */
+    public void setSpawnOrder(int o) {
+        spawnOrder = o;
+    }
+
+    /** This method returns the durability of the held item.
+     *
+     * @return the durability of the held item
+     */
+    public int getItemDurability() {
+        return itemDurability;
+    }
+
+    /** This method updates the durability of the held item.
+     *
+     * @param d the durability of the held item
+     */
+    private void setItemDurability(int d) {
+        itemDurability = d;
+    }
+
 
-    /** How many zombies are created */
-    private static int count = 0;
-    /** What items are they currently holding */
-    private Item held_item;
+    /** the kind of a basic zombie*/
+    public static final int BASIC = 0;
+    /** the kind of a flag zombie*/
+    public static final int FLAG = 1;
+    /** the kind of a conehead zombie*/
+    public static final int CONEHEAD = 2;
+    /** the kind of a buckethead zombie*/
+    public static final int BUCKETHEAD = 3;
+    /** the kind of a polevaulter zombie*/
+    public static final int POLEVAULTER = 4;
+    /** the number of kinds of zombies*/
+    public static final int KINDS = 5;
+    /** the starting health of a zombie*/
+    public static final int HEALTH = ZombieType.HEALTH;
+    /** the sprite state flag of a slowed zombie*/
+    public static final byte STATE_SLOWED = 1;
+    /** the sprite state flag of a zombie that is eating*/
+    public static final byte STATE_EATING = 2;
+    /** the sprite state flag of a zombie holding an item*/
+    public static final byte STATE_HAS_ITEM = 4;
+    /** the number of sprite states of a zombie*/
+    public static final int SPRITE_STATES = 8;
+    /** the kind of the zombie and the stats it shares with its kind*/
+    private final ZombieType type;
+    /** Checks if the zombie still holds its item */
+    private boolean hasItem;
+    /** the durability of the held item*/
+    private int itemDurability;
     /** Checks if the zombie is slow or not */
     private boolean slowed;
     /** Time reference where the zombie started going slow */
     private int slowedStart;
     /** the flag that checks if the zombie is eating or not*/
     private boolean isEating;
+    /** the column the zombie was at before its last step*/
+    private float previousCol;
+    /** the number of zombies added to the level before this one*/
+    private int spawnOrder;
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+import java.util.ArrayList;
+
+/** This class keeps the zombies of a level sorted by column within each row.
+ *  Plants and projectiles use it to find the zombies in their own row
+ *  without scanning every zombie of the level. Since zombies only move a
+ *  fraction of a tile per tick, each row stays nearly sorted between
+ *  ticks and is cheap to sort again.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public class ZombieIndex {
+    /** This constructor initializes an empty row for each row of the lawn.
+     *
+     * @param rows the number of rows of the lawn
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ZombieIndex(int rows) {
+        int i;
+
+        lanes = new ArrayList[rows];
+        for (i = 0; i < rows; i++)
+            lanes[i] = new ArrayList<>();
+    }
+
+    /** This method adds a zombie into its row, keeping the row sorted.
+     *
+     * @param z the zombie to be added
+     */
+    public void add(Zombie z) {
+        ArrayList<Zombie> lane = lanes[(int)z.getRow()];
+
+        lane.add(lowerBound(lane, z.getCol()), z);
+    }
+
+    /** This method checks if the index would be left unchanged by an
+     *  update, which is when no zombie in it has died and every row is
+     *  still sorted.
+     *
+     * @return true if every zombie is alive and every row is sorted, false otherwise
+     */
+    public boolean isUpToDate() {
+        int i, j;
+        ArrayList<Zombie> lane;
+
+        for (i = 0; i < lanes.length; i++) {
+            lane = lanes[i];
+
+            for (j = 0; j < lane.size(); j++)
+                if (!lane.get(j).isAlive() || (j > 0 && lane.get(j - 1).getCol() > lane.get(j).getCol()))
+                    return false;
+        }
+
+        return true;
+    }
+
+    /** This method removes dead zombies from every row and sorts
+     *  each row again after the zombies have moved. This should be
+     *  called once per tick, after the zombies have acted.
+     *
+     */
+    public void update() {
+        int i, j, k;
+        ArrayList<Zombie> lane;
+        Zombie z;
+
+        for (i = 0; i < lanes.length; i++) {
+            lane = lanes[i];
+
+            // remove dead zombies while keeping the order of the rest
+            k = 0;
+            for (j = 0; j < lane.size(); j++)
+                if (lane.get(j).isAlive())
+                    lane.set(k++, lane.get(j));
+            while (lane.size() > k)
+                lane.remove(lane.size() - 1);
+
+            // insertion sort, which is linear for a nearly sorted row
+            for (j = 1; j < lane.size(); j++) {
+                z = lane.get(j);
+                k = j - 1;
+
+                while (k >= 0 && lane.get(k).getCol() > z.getCol()) {
+                    lane.set(k + 1, lane.get(k));
+                    k--;
+                }
+
+                lane.set(k + 1, z);
+            }
+        }
+    }
+
+    /** This method returns the zombies of a row sorted by column.
+     *
+     * @param row the row to be returned
+     * @return the zombies of the row
+     */
+    public ArrayList<Zombie> getLane(int row) {
+        return lanes[row];
+    }
+
+    /** This method returns the number of rows of the index.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return lanes.length;
+    }
+
+    /** This method finds the index of the first zombie of a row
+     *  whose column is greater than or equal to the given column.
+     *
+     * @param row the row to be searched
+     * @param col the column to be searched
+     * @return the index of the first zombie at or after the column
+     */
+    public int lowerBound(int row, float col) {
+        return lowerBound(lanes[row], col);
+    }
+
+    /** This method finds the nearest living zombie in a row that is at
+     *  or after the given column.
+     *
+     * @param row the row to be searched
+     * @param col the column to be searched from
+     * @return the nearest zombie at or after the column, or null if there is none
+     */
+    public Zombie findNearestAhead(int row, float col) {
+        ArrayList<Zombie> lane = lanes[row];
+        int i = lowerBound(lane, col);
+
+        while (i < lane.size() && !lane.get(i).isAlive())
+            i++;
+
+        if (i < lane.size())
+            return lane.get(i);
+        else
+            return null;
+    }
+
+    /** This method finds the living zombie with the smallest column
+     *  in a row.
+     *
+     * @param row the row to be searched
+     * @return the rearmost zombie of the row, or null if there is none
+     */
+    public Zombie findFirst(int row) {
+        ArrayList<Zombie> lane = lanes[row];
+        int i = 0;
+
+        while (i < lane.size() && !lane.get(i).isAlive())
+            i++;
+
+        if (i < lane.size())
+            return lane.get(i);
+        else
+            return null;
+    }
+
+    /** This method binary searches a sorted row for the first zombie
+     *  whose column is greater than or equal to the given column.
+     *
+     * @param lane the row to be searched
+     * @param col the column to be searched
+     * @return the index of the first zombie at or after the column
+     */
+    private int lowerBound(ArrayList<Zombie> lane, float col) {
+        int low = 0, high = lane.size(), mid;
+
+        while (low < high) {
+            mid = (low + high) >>> 1;
+
+            if (lane.get(mid).getCol() < col)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        return low;
+    }
+
+    /** the zombies of each row sorted by column*/
+    private ArrayList<Zombie>[] lanes;
+}
@@ -0,0 +1,166 @@
+/** This class represents a kind of zombie, holding the stats that every
+ *  zombie of the kind shares. The stats of a zombie only depend on its
+ *  kind and on whether it still holds its item, so they are worked out
+ *  once here, such as how far a zombie moves in a step and how much it
+ *  deals in a bite, and each zombie only keeps what changes, such as its
+ *  health and the durability of its item. The kinds are made once and
+ *  never change.
+ *
+ *  @author PieIsSpy
+ *  @author rachell-code
+ *  @version 1.0
+ */
+public final class ZombieType {
+    /** This constructor initializes a kind of zombie and works out its
+     *  stats with and without its item.
+     *
+     * @param k the kind of the zombie, such as Zombie.CONEHEAD
+     * @param n the name of the zombie
+     * @param item the name of the item of the zombie, or null if it has none
+     * @param s the speed stat change of the item
+     * @param d the damage stat change of the item
+     * @param durability the durability of the item, or 0 if it cannot be broken
+     */
+    private ZombieType(int k, String n, String item, int s, int d, int durability) {
+        kind = k;
+        name = n;
+        itemName = item;
+        itemDurability = durability;
+        armored = durability > 0;
+
+        steps = new float[4];
+        steps[0] = (float) (1.0 / SPEED);
+        steps[SLOWED] = (float) (1.0 / (SPEED * 2));
+        steps[WITH_ITEM] = (float) (1.0 / (SPEED - s));
+        steps[WITH_ITEM | SLOWED] = (float) (1.0 / ((SPEED - s) * 2));
+
+        bites = new int[] {DAMAGE, DAMAGE + d};
+    }
+
+    /** This method returns a kind of zombie.
+     *
+     * @param kind the kind of the zombie, such as Zombie.CONEHEAD
+     * @return the kind of zombie
+     */
+    public static ZombieType get(int kind) {
+        return TYPES[kind];
+    }
+
+    /** This method returns the kind of the zombie.
+     *
+     * @return the kind of the zombie, such as Zombie.CONEHEAD
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    /** This method returns the name of the zombie.
+     *
+     * @return the name of the zombie
+     */
+    public String getName() {
+        return name;
+    }
+
+    /** This method returns the name of the item the zombie spawns with.
+     *
+     * @return the name of the item, or null if the zombie has none
+     */
+    public String getItemName() {
+        return itemName;
+    }
+
+    /** This method checks if the zombie spawns with an item.
+     *
+     * @return true if the zombie spawns with an item, false otherwise
+     */
+    public boolean hasItem() {
+        return itemName != null;
+    }
+
+    /** This method checks if the item of the zombie takes damage in place
+     *  of the zombie until it breaks.
+     *
+     * @return true if the item is breakable, false otherwise
+     */
+    public boolean isArmored() {
+        return armored;
+    }
+
+    /** This method returns the durability the item of the zombie spawns with.
+     *
+     * @return the durability of the item, or 0 if it cannot be broken
+     */
+    public int getItemDurability() {
+        return itemDurability;
+    }
+
+    /** This method returns how many columns the zombie moves in a step.
+     *
+     * @param hasItem true if the zombie still holds its item
+     * @param slowed true if the zombie is slowed
+     * @return the number of columns moved in a step
+     */
+    public float getStep(boolean hasItem, boolean slowed) {
+        return steps[(hasItem ? WITH_ITEM : 0) | (slowed ? SLOWED : 0)];
+    }
+
+    /** This method returns the damage the zombie deals in a bite.
+     *
+     * @param hasItem true if the zombie still holds its item
+     * @return the damage of a bite
+     */
+    public int getBite(boolean hasItem) {
+        return bites[hasItem ? 1 : 0];
+    }
+
+    /** This method returns the time between two bites of the zombie.
+     *
+     * @param slowed true if the zombie is slowed
+     * @return the time between two bites
+     */
+    public int getEatInterval(boolean slowed) {
+        return slowed ? SLOWED_EAT_INTERVAL : EAT_INTERVAL;
+    }
+
+    /** the starting health of a zombie*/
+    public static final int HEALTH = 70;
+    /** the number of seconds a zombie takes to walk one column*/
+    public static final int SPEED = 4;
+    /** the damage of a bite of a zombie*/
+    public static final int DAMAGE = 10;
+    /** the time between two steps of a zombie*/
+    public static final int WALK_INTERVAL = SimulationClock.SECOND;
+    /** the time between two bites of a zombie*/
+    public static final int EAT_INTERVAL = SimulationClock.SECOND / 2;
+    /** the time between two bites of a slowed zombie*/
+    public static final int SLOWED_EAT_INTERVAL = 3 * SimulationClock.SECOND;
+    /** how long a zombie stays slowed*/
+    public static final int SLOW_DURATION = 10 * SimulationClock.SECOND;
+    /** the index of the stats of a slowed zombie*/
+    private static final int SLOWED = 1;
+    /** the index of the stats of a zombie holding its item*/
+    private static final int WITH_ITEM = 2;
+    /** every kind of zombie, by kind*/
+    private static final ZombieType[] TYPES = {
+        new ZombieType(Zombie.BASIC, "Zombie", null, 0, 0, 0),
+        new ZombieType(Zombie.FLAG, "Flag Zombie", "Flag", 1, 0, 0),
+        new ZombieType(Zombie.CONEHEAD, "Conehead Zombie", "Traffic Cone", -2, -2, 140),
+        new ZombieType(Zombie.BUCKETHEAD, "Buckethead Zombie", "Bucket", -3, -5, 420),
+        new ZombieType(Zombie.POLEVAULTER, "Pole Vaulter Zombie", "Pole", 1, 0, 0)
+    };
+    /** the kind of the zombie*/
+    private final int kind;
+    /** the name of the zombie*/
+    private final String name;
+    /** the name of the item of the zombie*/
+    private final String itemName;
+    /** the durability the item of the zombie spawns with*/
+    private final int itemDurability;
+    /** dictates whether the item takes damage in place of the zombie*/
+    private final boolean armored;
+    /** how far the zombie moves in a step, by whether it holds its item and is slowed*/
+    private final float[] steps;
+    /** the damage of a bite, by whether the zombie holds its item*/
+    private final int[] bites;
+}